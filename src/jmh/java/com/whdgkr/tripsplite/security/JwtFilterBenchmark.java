@@ -0,0 +1,81 @@
+package com.whdgkr.tripsplite.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터의 토큰 처리 경로 (요청당 1회)
+ * - TRIPLE_PARSE: 기존 validateToken → getTokenType → getMemberIdFromToken (호출마다 파서 생성 + HMAC 검증)
+ * - SINGLE_PARSE: JwtProvider.parse (시작 시 만든 파서로 1회 검증)
+ * - CACHED: VerifiedTokenCache.parse (같은 토큰 재요청 시 digest 조회)
+ * - ./gradlew jmh --args='JwtFilterBenchmark'
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 8, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "TripSpliteSecretKeyForJWTTokenGenerationMustBe256BitsLong!!";
+
+    private SecretKey secretKey;
+    private JwtProvider jwtProvider;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtProvider = new JwtProvider(SECRET, 900_000, 1_209_600_000);
+        verifiedTokenCache = new VerifiedTokenCache(jwtProvider, true, 10_000, new SimpleMeterRegistry());
+        token = jwtProvider.createAccessToken(42L, "bench");
+    }
+
+    @Benchmark
+    public Long tripleParse() {
+        if (!validateToken(token)) {
+            return null;
+        }
+        if (!JwtClaims.TYPE_ACCESS.equals(claims(token).get("type", String.class))) {
+            return null;
+        }
+        return Long.parseLong(claims(token).getSubject());
+    }
+
+    @Benchmark
+    public Long singleParse() {
+        return jwtProvider.parse(token).filter(JwtClaims::isAccess).map(JwtClaims::memberId).orElse(null);
+    }
+
+    @Benchmark
+    public Long cached() {
+        return verifiedTokenCache.parse(token).filter(JwtClaims::isAccess).map(JwtClaims::memberId).orElse(null);
+    }
+
+    private boolean validateToken(String token) {
+        try {
+            claims(token);
+            return true;
+        } catch (JwtException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private Claims claims(String token) {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
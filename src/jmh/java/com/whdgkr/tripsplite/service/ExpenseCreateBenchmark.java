@@ -0,0 +1,93 @@
+package com.whdgkr.tripsplite.service;
+
+import com.whdgkr.tripsplite.dto.ExpenseRequest;
+import com.whdgkr.tripsplite.dto.TripRequest;
+import com.whdgkr.tripsplite.dto.TripResponse;
+import com.whdgkr.tripsplite.entity.Member;
+import com.whdgkr.tripsplite.repository.MemberRepository;
+import com.whdgkr.tripsplite.support.BenchContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지출 등록 지연 시간 vs 분배 인원 (균등 분배, 결제자 1명)
+ * - ./gradlew jmh --args='ExpenseCreateBenchmark'
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExpenseCreateBenchmark {
+
+    @Param({"2", "10", "20", "50"})
+    private int splitSize;
+
+    private BenchContext context;
+    private ExpenseService expenseService;
+    private Long tripId;
+    private ExpenseRequest request;
+
+    @Setup
+    public void setUp() {
+        context = BenchContext.start();
+        expenseService = context.bean(ExpenseService.class);
+
+        Member member = context.bean(MemberRepository.class).save(Member.builder()
+                .loginId("bench")
+                .passwordHash("{noop}bench")
+                .name("bench")
+                .email("bench@bench.local")
+                .build());
+
+        TripRequest tripRequest = new TripRequest();
+        tripRequest.setTitle("bench");
+        tripRequest.setStartDate("2025-01-01");
+        tripRequest.setEndDate("2025-01-10");
+        List<TripRequest.ParticipantInfo> others = new ArrayList<>();
+        for (int i = 1; i < splitSize; i++) {
+            TripRequest.ParticipantInfo info = new TripRequest.ParticipantInfo();
+            info.setName("p" + i);
+            others.add(info);
+        }
+        tripRequest.setParticipants(others);
+        TripResponse trip = context.bean(TripService.class).createTrip(member.getId(), tripRequest);
+        tripId = trip.getId();
+
+        request = new ExpenseRequest();
+        request.setTitle("bench");
+        request.setOccurredAt("2025-01-02T12:00:00");
+        request.setTotalAmount(splitSize * 1_000);
+        List<ExpenseRequest.PaymentItem> payments = new ArrayList<>();
+        ExpenseRequest.PaymentItem payment = new ExpenseRequest.PaymentItem();
+        payment.setParticipantId(trip.getParticipants().get(0).getId());
+        payment.setAmount(splitSize * 1_000);
+        payments.add(payment);
+        List<ExpenseRequest.ShareItem> shares = new ArrayList<>();
+        trip.getParticipants().forEach(p -> {
+            ExpenseRequest.ShareItem share = new ExpenseRequest.ShareItem();
+            share.setParticipantId(p.getId());
+            share.setAmount(1_000);
+            shares.add(share);
+        });
+        request.setPayments(payments);
+        request.setShares(shares);
+
+        System.out.println("splitSize=" + splitSize + " statements/request="
+                + context.statementsFor(() -> expenseService.createExpense(tripId, request)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object createExpense() {
+        return expenseService.createExpense(tripId, request);
+    }
+}
@@ -0,0 +1,77 @@
+package com.whdgkr.tripsplite.service;
+
+import com.whdgkr.tripsplite.dto.SettlementResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 송금 계산: 기존 두 힙 그리디(GREEDY) vs 원시 배열 투 포인터(LINEAR)
+ * - ./gradlew jmh --args='TransferPlannerBenchmark'
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransferPlannerBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int participants;
+
+    private List<SettlementResponse.ParticipantBalance> balances;
+    private Map<Long, String> names;
+    private TransferPlanner greedyPlanner;
+    private TransferPlanner linearPlanner;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        Random random = new Random(42);
+        balances = new ArrayList<>(participants);
+        names = new HashMap<>();
+        int sum = 0;
+        for (int i = 0; i < participants; i++) {
+            int net = i == participants - 1 ? -sum : random.nextInt(2_000_001) - 1_000_000;
+            sum += net;
+            long id = i + 1;
+            names.put(id, "동행자" + id);
+            balances.add(SettlementResponse.ParticipantBalance.builder()
+                    .participantId(id)
+                    .participantName("동행자" + id)
+                    .netBalance(net)
+                    .build());
+        }
+
+        // 정확 해법은 제외하고 대규모 임계값만 바꿔 두 경로를 고정
+        greedyPlanner = planner(Integer.MAX_VALUE);
+        linearPlanner = planner(0);
+    }
+
+    @Benchmark
+    public TransferPlanner.Plan greedy() {
+        return greedyPlanner.plan(balances, names);
+    }
+
+    @Benchmark
+    public TransferPlanner.Plan linear() {
+        return linearPlanner.plan(balances, names);
+    }
+
+    private static TransferPlanner planner(int largeGroupThreshold) throws ReflectiveOperationException {
+        TransferPlanner planner = new TransferPlanner();
+        set(planner, "exactMaxParticipants", 0);
+        set(planner, "exactTimeBudgetMs", 0L);
+        set(planner, "largeGroupThreshold", largeGroupThreshold);
+        set(planner, "maxTransfersPerParticipant", 0);
+        return planner;
+    }
+
+    private static void set(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,76 @@
+package com.whdgkr.tripsplite.service;
+
+import com.whdgkr.tripsplite.dto.TripRequest;
+import com.whdgkr.tripsplite.entity.Friend;
+import com.whdgkr.tripsplite.entity.Member;
+import com.whdgkr.tripsplite.repository.FriendRepository;
+import com.whdgkr.tripsplite.repository.MemberRepository;
+import com.whdgkr.tripsplite.support.BenchContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 친구 N명으로 여행 생성 (friendIds 경로) 지연 시간
+ * - ./gradlew jmh --args='TripCreateBenchmark'
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TripCreateBenchmark {
+
+    @Param({"5", "20", "50"})
+    private int friends;
+
+    private BenchContext context;
+    private TripService tripService;
+    private Long memberId;
+    private TripRequest request;
+
+    @Setup
+    public void setUp() {
+        context = BenchContext.start();
+        tripService = context.bean(TripService.class);
+
+        Member member = context.bean(MemberRepository.class).save(Member.builder()
+                .loginId("bench")
+                .passwordHash("{noop}bench")
+                .name("bench")
+                .email("bench@bench.local")
+                .build());
+        memberId = member.getId();
+
+        FriendRepository friendRepository = context.bean(FriendRepository.class);
+        List<Long> friendIds = new ArrayList<>();
+        for (int i = 0; i < friends; i++) {
+            friendIds.add(friendRepository.save(Friend.builder()
+                    .ownerMember(member)
+                    .name("friend" + i)
+                    .build()).getId());
+        }
+
+        request = new TripRequest();
+        request.setTitle("bench");
+        request.setStartDate("2025-01-01");
+        request.setEndDate("2025-01-10");
+        request.setFriendIds(friendIds);
+
+        System.out.println("friends=" + friends + " statements/request="
+                + context.statementsFor(() -> tripService.createTrip(memberId, request)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object createTrip() {
+        return tripService.createTrip(memberId, request);
+    }
+}
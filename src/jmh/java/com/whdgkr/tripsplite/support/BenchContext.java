@@ -0,0 +1,45 @@
+package com.whdgkr.tripsplite.support;
+
+import com.whdgkr.tripsplite.TripSpliteApplication;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트 (bench 프로필, H2)
+ */
+public final class BenchContext implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+
+    private BenchContext(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    public static BenchContext start() {
+        return new BenchContext(new SpringApplicationBuilder(TripSpliteApplication.class)
+                .profiles("bench")
+                .run());
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * 한 번 호출할 때 Hibernate가 준비한 JDBC 문장 수
+     */
+    public long statementsFor(Runnable call) {
+        Statistics statistics = bean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        call.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -2,8 +2,10 @@ package com.whdgkr.tripsplite;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class TripSpliteApplication {
     public static void main(String[] args) {
         SpringApplication.run(TripSpliteApplication.class, args);
@@ -0,0 +1,44 @@
+package com.whdgkr.tripsplite.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * /api/auth 요청 제한 설정 (auth.rate-limit.*)
+ * - routes: 경로별 IP/로그인ID 토큰 버킷 설정 (capacity=0이면 해당 키 제한 없음)
+ * - trusted-proxies: X-Forwarded-For를 신뢰할 프록시 주소 (IP 또는 CIDR)
+ *   비어 있으면 getRemoteAddr()만 사용 (server.forward-headers-strategy 사용 시 컨테이너가 반영한 주소)
+ * - max-body-bytes: loginId 제한 경로의 본문 상한 (초과 시 413)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "auth.rate-limit")
+public class AuthRateLimitProperties {
+
+    private boolean enabled = true;
+    private int stripes = 16;
+    private int maxKeys = 100_000;
+    private long idleEvictSeconds = 600;
+    private int maxBodyBytes = 8192;
+    private List<String> trustedProxies = new ArrayList<>();
+    private Map<String, Route> routes = new LinkedHashMap<>();
+
+    @Data
+    public static class Route {
+        private String path;
+        private Limit ip = new Limit();
+        private Limit loginId = new Limit();
+    }
+
+    @Data
+    public static class Limit {
+        private int capacity;
+        private double refillPerMinute;
+    }
+}
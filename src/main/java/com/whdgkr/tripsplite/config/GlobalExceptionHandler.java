@@ -47,7 +47,7 @@ public class GlobalExceptionHandler {
         response.put("message", ex.getReason());
 
         log.debug("[Exception] ResponseStatusException: {} - {}", ex.getStatusCode(), ex.getReason());
-        return ResponseEntity.status(ex.getStatusCode()).body(response);
+        return ResponseEntity.status(ex.getStatusCode()).headers(ex.getHeaders()).body(response);
     }
 
     @ExceptionHandler(Exception.class)
@@ -0,0 +1,123 @@
+package com.whdgkr.tripsplite.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * id_sequences 기반 ID 블록 할당기 (@PooledId)
+ * - 블록 단위(block-size)로 DB에서 가져와 메모리에서 나눠줌
+ * - 블록 할당은 메인 풀과 분리된 전용 커넥션 풀에서 수행
+ *   (요청 트랜잭션이 커넥션을 쥔 채로 같은 풀의 커넥션을 기다리다 풀이 고갈되는 상황 방지)
+ * - 전용 풀은 DataSource 빈으로 등록하지 않음 (메인 DataSource 자동 설정 유지)
+ * - Hibernate 설정(SETTING)으로 전달되어 컨텍스트별로 PooledIdGenerator가 사용
+ */
+@Slf4j
+@Component
+public class IdBlockAllocator implements HibernatePropertiesCustomizer {
+
+    public static final String SETTING = "tripsplite.id-block-allocator";
+
+    private final HikariDataSource dataSource;
+    private final int blockSize;
+    private final ConcurrentMap<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public IdBlockAllocator(
+            DataSourceProperties dataSourceProperties,
+            @Value("${id-allocator.pool-size:2}") int poolSize,
+            @Value("${id-allocator.block-size:50}") int blockSize) {
+        this.dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        this.dataSource.setPoolName("id-allocator");
+        this.dataSource.setMaximumPoolSize(poolSize);
+        this.dataSource.setMinimumIdle(0);
+        this.dataSource.setAutoCommit(false);
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(SETTING, this);
+    }
+
+    public long next(String sequenceName) {
+        Block block = blocks.computeIfAbsent(sequenceName, name -> new Block());
+        synchronized (block) {
+            if (block.next >= block.end) {
+                block.next = allocate(sequenceName);
+                block.end = block.next + blockSize;
+            }
+            return block.next++;
+        }
+    }
+
+    /**
+     * 다음 블록의 첫 ID를 가져오고 next_val을 블록 크기만큼 증가 (행 잠금으로 인스턴스 간 중복 방지)
+     * - 행이 없으면 1부터 시작 (운영은 V19에서 기존 최대 ID 이후로 초기화)
+     */
+    private long allocate(String sequenceName) {
+        try (Connection con = dataSource.getConnection()) {
+            try {
+                long start = lockNextValue(con, sequenceName);
+                try (PreparedStatement ps = con.prepareStatement(
+                        "UPDATE id_sequences SET next_val = ? WHERE sequence_name = ?")) {
+                    ps.setLong(1, start + blockSize);
+                    ps.setString(2, sequenceName);
+                    ps.executeUpdate();
+                }
+                con.commit();
+                log.debug("Id block allocated: sequence={}, start={}, size={}", sequenceName, start, blockSize);
+                return start;
+            } catch (SQLException e) {
+                con.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Id block allocation failed: " + sequenceName, e);
+        }
+    }
+
+    private long lockNextValue(Connection con, String sequenceName) throws SQLException {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try (PreparedStatement ps = con.prepareStatement(
+                    "SELECT next_val FROM id_sequences WHERE sequence_name = ? FOR UPDATE")) {
+                ps.setString(1, sequenceName);
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (rs.next()) {
+                        return rs.getLong(1);
+                    }
+                }
+            }
+            try (PreparedStatement ps = con.prepareStatement(
+                    "INSERT INTO id_sequences (sequence_name, next_val) VALUES (?, 1)")) {
+                ps.setString(1, sequenceName);
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                // 다른 인스턴스가 먼저 생성한 경우 다시 조회
+                con.rollback();
+            }
+        }
+        throw new SQLException("id_sequences row not found: " + sequenceName);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dataSource.close();
+    }
+
+    private static final class Block {
+        private long next;
+        private long end;
+    }
+}
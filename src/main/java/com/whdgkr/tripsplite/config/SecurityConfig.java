@@ -1,10 +1,12 @@
 package com.whdgkr.tripsplite.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.whdgkr.tripsplite.security.CalibratedBCryptPasswordEncoder;
 import com.whdgkr.tripsplite.security.JwtAuthenticationFilter;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
@@ -12,7 +14,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
@@ -48,6 +50,7 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers("/api/dev/ledger/**", "/api/dev/rollups/**").authenticated()
                         .requestMatchers("/api/dev/**").permitAll()
                         .requestMatchers("/error").permitAll()
                         .anyRequest().authenticated()
@@ -101,8 +104,34 @@ public class SecurityConfig {
         };
     }
 
+    /**
+     * 비밀번호 인코더
+     * - BCrypt cost는 auth.password-hash.cost로 고정, 설정하지 않은 경우(0)에만 시작 시 목표 검증 시간 기준으로 측정
+     * - 측정값은 인스턴스마다 다를 수 있어 여러 인스턴스 배포에서는 cost를 반드시 고정 (재해시 반복 방지)
+     * - {bcrypt} 접두사 방식, 접두사 없는 기존 해시도 검증 가능
+     * - 로그인 성공 시 저장된 cost가 현재와 다르거나 접두사가 없으면 재해시 (upgradeEncoding)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${auth.password-hash.cost:0}") int fixedCost,
+            @Value("${auth.password-hash.target-verify-ms:100}") long targetVerifyMs,
+            @Value("${auth.password-hash.min-cost:8}") int minCost,
+            @Value("${auth.password-hash.max-cost:14}") int maxCost) {
+        int cost;
+        if (fixedCost > 0) {
+            if (fixedCost < 4 || fixedCost > 31) {
+                throw new IllegalStateException("auth.password-hash.cost must be between 4 and 31: " + fixedCost);
+            }
+            cost = fixedCost;
+        } else {
+            cost = CalibratedBCryptPasswordEncoder.calibrate(targetVerifyMs, minCost, maxCost);
+            log.warn("[AUTH] BCrypt cost {} chosen by calibration - set auth.password-hash.cost when running more than one instance",
+                    cost);
+        }
+        CalibratedBCryptPasswordEncoder bcrypt = new CalibratedBCryptPasswordEncoder(cost);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 }
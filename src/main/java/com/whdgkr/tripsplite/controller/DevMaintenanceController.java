@@ -0,0 +1,59 @@
+package com.whdgkr.tripsplite.controller;
+
+import com.whdgkr.tripsplite.dto.LedgerDriftReport;
+import com.whdgkr.tripsplite.service.BalanceLedgerService;
+import com.whdgkr.tripsplite.service.BalanceLedgerVerifyJob;
+import com.whdgkr.tripsplite.service.ExpenseRollupRebuildJob;
+import com.whdgkr.tripsplite.service.ExpenseRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전체 여행 대상 유지보수 작업 수동 실행 (dev 프로필 + 인증 필요)
+ * - 운영 환경에서는 정기 작업(BalanceLedgerVerifyJob)과 저장 시 증분 반영으로만 유지
+ */
+@RestController
+@RequestMapping("/api/dev")
+@Profile("dev")
+@RequiredArgsConstructor
+public class DevMaintenanceController {
+
+    private final BalanceLedgerService balanceLedgerService;
+    private final BalanceLedgerVerifyJob balanceLedgerVerifyJob;
+    private final ExpenseRollupService expenseRollupService;
+    private final ExpenseRollupRebuildJob expenseRollupRebuildJob;
+
+    /**
+     * 정산 원장 검증 (원본 지출 데이터와 비교)
+     * - tripId 지정 시 해당 여행만, 미지정 시 전체 활성 여행 중 오차가 있는 여행만 반환
+     * - repair=true면 오차만큼 원장 복구
+     */
+    @PostMapping("/ledger/verify")
+    public List<LedgerDriftReport> verifyLedger(
+            @RequestParam(required = false) Long tripId,
+            @RequestParam(defaultValue = "false") boolean repair) {
+        if (tripId != null) {
+            return List.of(balanceLedgerService.verifyTrip(tripId, repair));
+        }
+        return balanceLedgerVerifyJob.verifyAll(repair);
+    }
+
+    /**
+     * 통계 집계 재생성 (원본 지출 데이터 기준)
+     * - tripId 지정 시 해당 여행만 즉시 재생성
+     * - 미지정 시 전체 활성 여행을 백그라운드로 재생성 (이미 실행 중이면 started=false)
+     */
+    @PostMapping("/rollups/rebuild")
+    public Map<String, Object> rebuildRollups(@RequestParam(required = false) Long tripId) {
+        if (tripId != null) {
+            int rows = expenseRollupService.rebuildTrip(tripId);
+            return Map.of("tripId", tripId, "rows", rows);
+        }
+        boolean started = expenseRollupRebuildJob.startRebuildAll();
+        return Map.of("started", started, "running", expenseRollupRebuildJob.isRunning());
+    }
+}
@@ -1,7 +1,9 @@
 package com.whdgkr.tripsplite.controller;
 
+import com.whdgkr.tripsplite.dto.MemberBalanceResponse;
 import com.whdgkr.tripsplite.dto.MemberResponse;
 import com.whdgkr.tripsplite.service.AuthService;
+import com.whdgkr.tripsplite.service.MemberBalanceService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -13,9 +15,19 @@ import org.springframework.web.bind.annotation.*;
 public class MemberController {
 
     private final AuthService authService;
+    private final MemberBalanceService memberBalanceService;
 
     @GetMapping("/me")
     public ResponseEntity<MemberResponse> getMe(@AuthenticationPrincipal Long memberId) {
         return ResponseEntity.ok(authService.getMe(memberId));
     }
+
+    // 참여 중인 모든 여행 기준 상대방별 받을/보낼 금액
+    @GetMapping("/me/balances")
+    public MemberBalanceResponse getMyBalances(
+            @AuthenticationPrincipal Long memberId,
+            @RequestParam(defaultValue = "UNSETTLED") String scope,
+            @RequestParam(defaultValue = "true") boolean netAcrossTrips) {
+        return memberBalanceService.getMyBalances(memberId, scope, netAcrossTrips);
+    }
 }
@@ -1,15 +1,22 @@
 package com.whdgkr.tripsplite.controller;
 
 import com.whdgkr.tripsplite.dto.*;
+import com.whdgkr.tripsplite.service.ExpenseImportService;
 import com.whdgkr.tripsplite.service.ExpenseService;
+import com.whdgkr.tripsplite.service.RequestCoalescer;
 import com.whdgkr.tripsplite.service.SettlementService;
 import com.whdgkr.tripsplite.service.StatisticsService;
+import com.whdgkr.tripsplite.service.TripExportService;
 import com.whdgkr.tripsplite.service.TripService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -19,22 +26,41 @@ public class TripController {
 
     private final TripService tripService;
     private final ExpenseService expenseService;
+    private final ExpenseImportService expenseImportService;
     private final SettlementService settlementService;
     private final StatisticsService statisticsService;
+    private final RequestCoalescer requestCoalescer;
+    private final TripExportService tripExportService;
 
     @GetMapping
     public List<TripResponse> getAllTrips() {
         return tripService.getAllTrips();
     }
 
+    @GetMapping("/mine")
+    public CursorPageResponse<TripResponse> getMyTrips(
+            @AuthenticationPrincipal Long memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return tripService.getMyTrips(memberId, cursor, size);
+    }
+
     @GetMapping("/matched")
     public List<TripResponse> getMatchedTrips(@AuthenticationPrincipal Long memberId) {
         return tripService.getMatchedTrips(memberId);
     }
 
+    @GetMapping("/matched/page")
+    public CursorPageResponse<TripResponse> getMatchedTripsPage(
+            @AuthenticationPrincipal Long memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return tripService.getMatchedTripsPage(memberId, cursor, size);
+    }
+
     @GetMapping("/{tripId}")
     public TripResponse getTripById(@PathVariable Long tripId) {
-        return tripService.getTripById(tripId);
+        return requestCoalescer.execute("trip-detail", tripId, "", () -> tripService.getTripById(tripId));
     }
 
     @PostMapping
@@ -75,22 +101,53 @@ public class TripController {
     public SettlementResponse getSettlement(
             @PathVariable Long tripId,
             @RequestParam(defaultValue = "UNSETTLED") String scope) {
-        return settlementService.calculateSettlement(tripId, scope);
+        String normalizedScope = "ALL".equalsIgnoreCase(scope) ? "ALL" : "UNSETTLED";
+        return requestCoalescer.execute("settlement", tripId, normalizedScope,
+                () -> settlementService.calculateSettlement(tripId, normalizedScope));
     }
 
     // Statistics endpoint
     @GetMapping("/{tripId}/statistics")
     public StatisticsResponse getStatistics(@PathVariable Long tripId) {
-        return statisticsService.getTripStatistics(tripId);
+        return requestCoalescer.execute("statistics", tripId, "", () -> statisticsService.getTripStatistics(tripId));
+    }
+
+    // Export endpoint (지출/결제/분배 + 정산 요약 CSV 스트리밍)
+    @GetMapping("/{tripId}/export.csv")
+    public void exportCsv(
+            @PathVariable Long tripId,
+            @RequestParam(defaultValue = "UNSETTLED") String scope,
+            HttpServletResponse response) throws IOException {
+        tripExportService.checkExportable(tripId);
+        response.setContentType("text/csv; charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"trip-" + tripId + ".csv\"");
+        tripExportService.writeCsv(tripId, scope, response.getWriter());
     }
 
     // Expense endpoints
+    @GetMapping("/{tripId}/expenses")
+    public CursorPageResponse<ExpenseResponse> searchExpenses(
+            @PathVariable Long tripId,
+            ExpenseSearchRequest request) {
+        return expenseService.searchExpenses(tripId, request);
+    }
+
     @PostMapping("/{tripId}/expenses")
     @ResponseStatus(HttpStatus.CREATED)
     public ExpenseResponse createExpense(@PathVariable Long tripId, @RequestBody ExpenseRequest request) {
         return expenseService.createExpense(tripId, request);
     }
 
+    // 지출 일괄 등록 (본문을 스트림으로 처리: application/x-ndjson 또는 text/csv)
+    @PostMapping("/{tripId}/expenses/import")
+    public ExpenseImportResponse importExpenses(
+            @PathVariable Long tripId,
+            @RequestParam(required = false) String format,
+            HttpServletRequest httpRequest) throws IOException {
+        String resolved = ExpenseImportService.resolveFormat(format, httpRequest.getContentType());
+        return expenseImportService.importExpenses(tripId, resolved, httpRequest.getInputStream());
+    }
+
     @PutMapping("/expenses/{expenseId}")
     public ExpenseResponse updateExpense(@PathVariable Long expenseId, @RequestBody ExpenseRequest request) {
         return expenseService.updateExpense(expenseId, request);
@@ -0,0 +1,28 @@
+package com.whdgkr.tripsplite.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ExpenseImportResponse {
+    private Long tripId;
+    private String format;         // NDJSON, CSV
+    private Integer totalRows;
+    private Integer importedRows;
+    private Integer failedRows;
+    private Integer chunks;
+    private Long elapsedMs;
+    private Double rowsPerSecond;
+    private List<RowError> errors;
+    private Boolean errorsTruncated; // 오류 목록 상한 초과 여부
+
+    @Data
+    @Builder
+    public static class RowError {
+        private Integer line;
+        private String message;
+    }
+}
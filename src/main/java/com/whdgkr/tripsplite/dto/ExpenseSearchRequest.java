@@ -0,0 +1,14 @@
+package com.whdgkr.tripsplite.dto;
+
+import lombok.Data;
+
+@Data
+public class ExpenseSearchRequest {
+    private String cursor;        // 이전 페이지의 nextCursor ({occurredAt}_{expenseId})
+    private Integer size = 20;
+    private String category;      // ExpenseCategory 이름
+    private String settledYn;     // Y / N
+    private String from;          // ISO-8601 날짜 (포함): 2025-12-28
+    private String to;            // ISO-8601 날짜 (포함): 2025-12-31
+    private Long participantId;   // 결제자 또는 분배 대상으로 포함된 지출만
+}
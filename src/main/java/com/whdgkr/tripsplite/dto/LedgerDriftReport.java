@@ -0,0 +1,29 @@
+package com.whdgkr.tripsplite.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class LedgerDriftReport {
+    private Long tripId;
+    private Integer participantsChecked;
+    private Boolean repaired;
+    private List<ParticipantDrift> drifts;
+
+    @Data
+    @Builder
+    public static class ParticipantDrift {
+        private Long participantId;
+        private Long ledgerPaid;
+        private Long actualPaid;
+        private Long ledgerShare;
+        private Long actualShare;
+        private Long ledgerUnsettledPaid;
+        private Long actualUnsettledPaid;
+        private Long ledgerUnsettledShare;
+        private Long actualUnsettledShare;
+    }
+}
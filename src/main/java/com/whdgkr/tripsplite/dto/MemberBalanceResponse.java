@@ -0,0 +1,37 @@
+package com.whdgkr.tripsplite.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class MemberBalanceResponse {
+    private Long memberId;
+    private String scope;          // UNSETTLED, ALL
+    private Boolean netAcrossTrips; // true면 같은 회원에 대한 금액을 여행 간 상계
+    private Integer tripCount;
+    private Long totalToReceive;   // 내가 받을 금액 합계
+    private Long totalToPay;       // 내가 보낼 금액 합계
+    private Long netBalance;       // 받을 금액 - 보낼 금액
+    private List<Counterpart> counterparts;
+
+    @Data
+    @Builder
+    public static class Counterpart {
+        private Long memberId;      // 회원이 아닌 동행자면 null
+        private Long participantId; // 회원이 아닌 동행자만 값이 있음
+        private String name;
+        private Long amount;        // 양수: 상대가 나에게, 음수: 내가 상대에게
+        private List<TripAmount> trips;
+    }
+
+    @Data
+    @Builder
+    public static class TripAmount {
+        private Long tripId;
+        private String tripTitle;
+        private Long amount;
+    }
+}
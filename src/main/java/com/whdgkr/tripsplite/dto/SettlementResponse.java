@@ -11,6 +11,7 @@ public class SettlementResponse {
     private Integer totalExpense;
     private List<ParticipantBalance> balances;
     private List<Transaction> transfers;
+    private String solver; // 송금 목록 계산 방식 (EXACT, GREEDY, LINEAR)
     
     @Data
     @Builder
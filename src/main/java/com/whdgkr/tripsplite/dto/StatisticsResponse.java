@@ -10,6 +10,8 @@ import java.util.List;
 public class StatisticsResponse {
     private Integer totalExpense;
     private List<CategoryStat> categoryStats;
+    private List<ParticipantStat> participantStats; // 동행자별 부담 금액 (분배 기준)
+    private List<DailyStat> dailyStats;             // 일자별 지출 (날짜 오름차순)
 
     @Data
     @Builder
@@ -18,5 +20,23 @@ public class StatisticsResponse {
         private String categoryName;
         private Integer amount;
         private Double percentage;
+        private Long expenseCount;
+    }
+
+    @Data
+    @Builder
+    public static class ParticipantStat {
+        private Long participantId;
+        private String participantName;
+        private Integer amount;
+        private Double percentage;
+    }
+
+    @Data
+    @Builder
+    public static class DailyStat {
+        private String date; // yyyy-MM-dd
+        private Integer amount;
+        private Long expenseCount;
     }
 }
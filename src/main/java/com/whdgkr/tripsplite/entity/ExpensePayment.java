@@ -15,7 +15,7 @@ import lombok.NoArgsConstructor;
 public class ExpensePayment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("expense_payments")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
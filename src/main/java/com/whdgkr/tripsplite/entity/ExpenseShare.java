@@ -15,7 +15,7 @@ import lombok.NoArgsConstructor;
 public class ExpenseShare {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("expense_shares")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,25 @@
+package com.whdgkr.tripsplite.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 테이블 기반 ID 블록 할당 상태 (IdBlockAllocator 전용, 직접 수정하지 않음)
+ * - next_val: 다음 블록의 첫 ID
+ */
+@Entity
+@Table(name = "id_sequences")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdSequence {
+
+    @Id
+    @Column(name = "sequence_name")
+    private String sequenceName;
+
+    @Column(name = "next_val", nullable = false)
+    private Long nextVal;
+}
@@ -17,7 +17,7 @@ import java.time.LocalDateTime;
 public class Participant {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("participants")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,19 @@
+package com.whdgkr.tripsplite.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * id_sequences 블록에서 ID 할당 (INSERT 전에 ID가 정해지므로 JDBC 배치 가능)
+ * - value: id_sequences.sequence_name
+ */
+@IdGeneratorType(PooledIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface PooledId {
+    String value();
+}
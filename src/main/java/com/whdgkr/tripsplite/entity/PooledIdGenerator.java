@@ -0,0 +1,34 @@
+package com.whdgkr.tripsplite.entity;
+
+import com.whdgkr.tripsplite.config.IdBlockAllocator;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+
+/**
+ * @PooledId 생성기 - 블록 할당은 IdBlockAllocator의 전용 커넥션에서 수행
+ * - Hibernate TableGenerator는 요청 트랜잭션과 같은 풀에서 두 번째 커넥션을 잡으므로 사용하지 않음
+ */
+public class PooledIdGenerator implements IdentifierGenerator {
+
+    private final String sequenceName;
+    private final IdBlockAllocator allocator;
+
+    public PooledIdGenerator(PooledId config, Member member, CustomIdGeneratorCreationContext context) {
+        this.sequenceName = config.value();
+        Object allocator = context.getServiceRegistry().requireService(ConfigurationService.class)
+                .getSettings().get(IdBlockAllocator.SETTING);
+        if (!(allocator instanceof IdBlockAllocator idBlockAllocator)) {
+            throw new IllegalStateException("IdBlockAllocator is not configured: " + IdBlockAllocator.SETTING);
+        }
+        this.allocator = idBlockAllocator;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return allocator.next(sequenceName);
+    }
+}
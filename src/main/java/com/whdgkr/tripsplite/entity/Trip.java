@@ -13,6 +13,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "trips")
+@NamedEntityGraph(name = "Trip.withParticipants", attributeNodes = @NamedAttributeNode("participants"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -39,6 +40,10 @@ public class Trip {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    // TripVersionService에서 UPDATE 쿼리로만 증가 (엔티티 저장 시 덮어쓰지 않도록 읽기 전용)
+    @Column(name = "version", nullable = false, insertable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
     @OneToMany(mappedBy = "trip", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<Participant> participants = new ArrayList<>();
@@ -0,0 +1,65 @@
+package com.whdgkr.tripsplite.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 여행 통계 사전 집계 (여행, 카테고리, 일자, 동행자)
+ * - participantId = 0: 지출 단위 합계 (총액, 지출 건수)
+ * - participantId > 0: 해당 동행자의 분배 합계 (분배에 포함된 지출 건수)
+ * - 값은 ExpenseService 변경 시 증분(delta)으로만 갱신됨
+ */
+@Entity
+@Table(name = "trip_expense_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_trip_expense_rollups",
+                columnNames = {"trip_id", "category", "expense_date", "participant_id"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TripExpenseRollup {
+
+    public static final long EXPENSE_LEVEL = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "trip_id", nullable = false)
+    private Long tripId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private ExpenseCategory category;
+
+    @Column(name = "expense_date", nullable = false)
+    private LocalDate expenseDate;
+
+    @Column(name = "participant_id", nullable = false)
+    private Long participantId;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long amount = 0L;
+
+    @Column(name = "expense_count", nullable = false)
+    @Builder.Default
+    private Long expenseCount = 0L;
+
+    @Column(name = "unsettled_amount", nullable = false)
+    @Builder.Default
+    private Long unsettledAmount = 0L;
+
+    @Column(name = "unsettled_count", nullable = false)
+    @Builder.Default
+    private Long unsettledCount = 0L;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
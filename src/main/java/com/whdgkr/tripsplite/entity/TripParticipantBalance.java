@@ -0,0 +1,53 @@
+package com.whdgkr.tripsplite.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동행자별 정산 잔액 원장
+ * - 삭제되지 않은 지출의 결제/분배 합계를 전체(paid/share)와 미정산분(unsettled_*)으로 나누어 보관
+ * - 값은 ExpenseService 변경 시 증분(delta)으로만 갱신됨
+ */
+@Entity
+@Table(name = "trip_participant_balances",
+        uniqueConstraints = @UniqueConstraint(name = "uk_trip_participant_balances", columnNames = {"trip_id", "participant_id"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TripParticipantBalance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "trip_id", nullable = false)
+    private Long tripId;
+
+    @Column(name = "participant_id", nullable = false)
+    private Long participantId;
+
+    @Column(name = "paid_total", nullable = false)
+    @Builder.Default
+    private Long paidTotal = 0L;
+
+    @Column(name = "share_total", nullable = false)
+    @Builder.Default
+    private Long shareTotal = 0L;
+
+    @Column(name = "unsettled_paid_total", nullable = false)
+    @Builder.Default
+    private Long unsettledPaidTotal = 0L;
+
+    @Column(name = "unsettled_share_total", nullable = false)
+    @Builder.Default
+    private Long unsettledShareTotal = 0L;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
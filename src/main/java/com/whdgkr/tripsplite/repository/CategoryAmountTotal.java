@@ -0,0 +1,12 @@
+package com.whdgkr.tripsplite.repository;
+
+import com.whdgkr.tripsplite.entity.ExpenseCategory;
+
+/**
+ * 카테고리별 지출 합계 projection (삭제되지 않은 지출 기준)
+ */
+public interface CategoryAmountTotal {
+    ExpenseCategory getCategory();
+    Long getTotal();
+    Long getExpenseCount();
+}
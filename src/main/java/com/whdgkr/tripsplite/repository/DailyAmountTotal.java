@@ -0,0 +1,12 @@
+package com.whdgkr.tripsplite.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 일자별 지출 합계 projection (삭제되지 않은 지출 기준)
+ */
+public interface DailyAmountTotal {
+    LocalDate getDay();
+    Long getTotal();
+    Long getExpenseCount();
+}
@@ -2,8 +2,34 @@ package com.whdgkr.tripsplite.repository;
 
 import com.whdgkr.tripsplite.entity.ExpensePayment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ExpensePaymentRepository extends JpaRepository<ExpensePayment, Long> {
+
+    // 동행자별 결제 합계 (삭제된 지출/결제 제외, 엔티티 로딩 없이 집계)
+    @Query("SELECT ep.participant.id AS participantId, " +
+            "SUM(ep.amount) AS total, " +
+            "SUM(CASE WHEN e.settledYn = 'N' THEN ep.amount ELSE 0 END) AS unsettledTotal " +
+            "FROM ExpensePayment ep JOIN ep.expense e " +
+            "WHERE e.trip.id = :tripId AND e.deleteYn = 'N' AND ep.deleteYn = 'N' " +
+            "GROUP BY ep.participant.id")
+    List<ParticipantAmountTotal> sumActiveAmountsByParticipant(@Param("tripId") Long tripId);
+
+    // 여행의 활성 지출에 속한 활성 결제 내역 (동행자 포함, 지출 수와 무관하게 쿼리 1회)
+    @Query("SELECT ep FROM ExpensePayment ep JOIN FETCH ep.participant JOIN ep.expense e " +
+            "WHERE e.trip.id = :tripId AND e.deleteYn = 'N' AND ep.deleteYn = 'N' " +
+            "ORDER BY ep.id")
+    List<ExpensePayment> findActiveByTripId(@Param("tripId") Long tripId);
+
+    // 지정한 지출들의 활성 결제 내역 (동행자 포함)
+    @Query("SELECT ep FROM ExpensePayment ep JOIN FETCH ep.participant " +
+            "WHERE ep.expense.id IN :expenseIds AND ep.deleteYn = 'N' " +
+            "ORDER BY ep.id")
+    List<ExpensePayment> findActiveByExpenseIdIn(@Param("expenseIds") Collection<Long> expenseIds);
 }
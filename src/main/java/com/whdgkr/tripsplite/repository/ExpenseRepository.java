@@ -1,13 +1,60 @@
 package com.whdgkr.tripsplite.repository;
 
 import com.whdgkr.tripsplite.entity.Expense;
+import com.whdgkr.tripsplite.entity.ExpenseCategory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ExpenseRepository extends JpaRepository<Expense, Long> {
     List<Expense> findByTripIdOrderByOccurredAtDesc(Long tripId);
     List<Expense> findByTripIdAndDeleteYnOrderByOccurredAtDesc(Long tripId, String deleteYn);
+    List<Expense> findByTripIdAndDeleteYnOrderByIdAsc(Long tripId, String deleteYn);
+
+    // 활성 지출 총액 (unsettledOnly=true면 미정산 지출만)
+    @Query("SELECT COALESCE(SUM(e.totalAmount), 0) FROM Expense e " +
+            "WHERE e.trip.id = :tripId AND e.deleteYn = 'N' " +
+            "AND (:unsettledOnly = false OR e.settledYn = 'N')")
+    long sumActiveTotalAmount(@Param("tripId") Long tripId, @Param("unsettledOnly") boolean unsettledOnly);
+
+    // 지출 목록 검색 (occurred_at, id 내림차순 keyset, null 조건은 무시)
+    @Query("SELECT e FROM Expense e " +
+            "WHERE e.trip.id = :tripId AND e.deleteYn = 'N' " +
+            "AND (:category IS NULL OR e.category = :category) " +
+            "AND (:settledYn IS NULL OR e.settledYn = :settledYn) " +
+            "AND (:fromAt IS NULL OR e.occurredAt >= :fromAt) " +
+            "AND (:toAt IS NULL OR e.occurredAt < :toAt) " +
+            "AND (:participantId IS NULL " +
+            "  OR EXISTS (SELECT 1 FROM ExpensePayment ep WHERE ep.expense = e AND ep.participant.id = :participantId AND ep.deleteYn = 'N') " +
+            "  OR EXISTS (SELECT 1 FROM ExpenseShare es WHERE es.expense = e AND es.participant.id = :participantId AND es.deleteYn = 'N')) " +
+            "AND (e.occurredAt < :cursorAt OR (e.occurredAt = :cursorAt AND e.id < :cursorId)) " +
+            "ORDER BY e.occurredAt DESC, e.id DESC")
+    List<Expense> search(@Param("tripId") Long tripId,
+                         @Param("category") ExpenseCategory category,
+                         @Param("settledYn") String settledYn,
+                         @Param("fromAt") LocalDateTime fromAt,
+                         @Param("toAt") LocalDateTime toAt,
+                         @Param("participantId") Long participantId,
+                         @Param("cursorAt") LocalDateTime cursorAt,
+                         @Param("cursorId") Long cursorId,
+                         Pageable pageable);
+
+    // 카테고리별 지출 합계 (엔티티 로딩 없이 집계)
+    @Query("SELECT e.category AS category, SUM(e.totalAmount) AS total, COUNT(e) AS expenseCount " +
+            "FROM Expense e WHERE e.trip.id = :tripId AND e.deleteYn = 'N' " +
+            "GROUP BY e.category")
+    List<CategoryAmountTotal> sumActiveAmountsByCategory(@Param("tripId") Long tripId);
+
+    // 일자별 지출 합계 (날짜 오름차순)
+    @Query("SELECT CAST(e.occurredAt AS LocalDate) AS day, SUM(e.totalAmount) AS total, COUNT(e) AS expenseCount " +
+            "FROM Expense e WHERE e.trip.id = :tripId AND e.deleteYn = 'N' " +
+            "GROUP BY CAST(e.occurredAt AS LocalDate) " +
+            "ORDER BY CAST(e.occurredAt AS LocalDate)")
+    List<DailyAmountTotal> sumActiveAmountsByDay(@Param("tripId") Long tripId);
 }
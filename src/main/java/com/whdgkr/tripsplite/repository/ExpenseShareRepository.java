@@ -2,8 +2,41 @@ package com.whdgkr.tripsplite.repository;
 
 import com.whdgkr.tripsplite.entity.ExpenseShare;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ExpenseShareRepository extends JpaRepository<ExpenseShare, Long> {
+
+    // 동행자별 분배 합계 (삭제된 지출/분배 제외, 엔티티 로딩 없이 집계)
+    @Query("SELECT es.participant.id AS participantId, " +
+            "SUM(es.amount) AS total, " +
+            "SUM(CASE WHEN e.settledYn = 'N' THEN es.amount ELSE 0 END) AS unsettledTotal " +
+            "FROM ExpenseShare es JOIN es.expense e " +
+            "WHERE e.trip.id = :tripId AND e.deleteYn = 'N' AND es.deleteYn = 'N' " +
+            "GROUP BY es.participant.id")
+    List<ParticipantAmountTotal> sumActiveAmountsByParticipant(@Param("tripId") Long tripId);
+
+    // 여행의 활성 지출에 속한 활성 분배 내역 (동행자 포함, 지출 수와 무관하게 쿼리 1회)
+    @Query("SELECT es FROM ExpenseShare es JOIN FETCH es.participant JOIN es.expense e " +
+            "WHERE e.trip.id = :tripId AND e.deleteYn = 'N' AND es.deleteYn = 'N' " +
+            "ORDER BY es.id")
+    List<ExpenseShare> findActiveByTripId(@Param("tripId") Long tripId);
+
+    // 지정한 지출들의 활성 분배 내역 (동행자 포함)
+    @Query("SELECT es FROM ExpenseShare es JOIN FETCH es.participant " +
+            "WHERE es.expense.id IN :expenseIds AND es.deleteYn = 'N' " +
+            "ORDER BY es.id")
+    List<ExpenseShare> findActiveByExpenseIdIn(@Param("expenseIds") Collection<Long> expenseIds);
+
+    // 동행자별 부담 금액 합계 (삭제된 지출/분배 제외, 이름 포함)
+    @Query("SELECT p.id AS participantId, p.name AS participantName, SUM(es.amount) AS total " +
+            "FROM ExpenseShare es JOIN es.expense e JOIN es.participant p " +
+            "WHERE e.trip.id = :tripId AND e.deleteYn = 'N' AND es.deleteYn = 'N' " +
+            "GROUP BY p.id, p.name")
+    List<ParticipantSpendTotal> sumActiveSpendByParticipant(@Param("tripId") Long tripId);
 }
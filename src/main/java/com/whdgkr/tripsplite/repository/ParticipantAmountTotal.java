@@ -0,0 +1,12 @@
+package com.whdgkr.tripsplite.repository;
+
+/**
+ * 동행자별 금액 합계 projection
+ * - total: 삭제되지 않은 지출 전체 합계
+ * - unsettledTotal: 그중 미정산 지출 합계
+ */
+public interface ParticipantAmountTotal {
+    Long getParticipantId();
+    Long getTotal();
+    Long getUnsettledTotal();
+}
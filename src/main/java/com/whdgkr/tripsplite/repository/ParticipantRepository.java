@@ -1,13 +1,38 @@
 package com.whdgkr.tripsplite.repository;
 
 import com.whdgkr.tripsplite.entity.Participant;
+import com.whdgkr.tripsplite.entity.Trip;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ParticipantRepository extends JpaRepository<Participant, Long> {
     List<Participant> findByTripId(Long tripId);
     List<Participant> findByTripIdAndDeleteYn(Long tripId, String deleteYn);
+    List<Participant> findByTripIdIn(Collection<Long> tripIds);
+
+    // 회원이 동행자(소유자 포함)로 참여 중인 활성 여행 (start_date, id 내림차순 keyset)
+    @Query("SELECT DISTINCT t FROM Participant p JOIN p.trip t " +
+            "WHERE p.user.id = :memberId AND p.deleteYn = 'N' AND t.deleteYn = 'N' " +
+            "AND (t.startDate < :cursorDate OR (t.startDate = :cursorDate AND t.id < :cursorId)) " +
+            "ORDER BY t.startDate DESC, t.id DESC")
+    List<Trip> findMemberTrips(@Param("memberId") Long memberId,
+                               @Param("cursorDate") LocalDate cursorDate,
+                               @Param("cursorId") Long cursorId,
+                               Pageable pageable);
+
+    // 회원이 참여 중인 모든 활성 여행의 활성 동행자 (여행 수와 무관하게 쿼리 1회)
+    @Query("SELECT p.id AS participantId, t.id AS tripId, t.title AS tripTitle, p.name AS participantName, " +
+            "u.id AS memberId, u.name AS memberName " +
+            "FROM Participant p JOIN p.trip t LEFT JOIN p.user u " +
+            "WHERE p.deleteYn = 'N' AND t.deleteYn = 'N' AND t.id IN (" +
+            "SELECT me.trip.id FROM Participant me WHERE me.user.id = :memberId AND me.deleteYn = 'N')")
+    List<TripMemberParticipant> findParticipantsOfMemberTrips(@Param("memberId") Long memberId);
 }
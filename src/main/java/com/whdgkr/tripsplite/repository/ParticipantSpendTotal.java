@@ -0,0 +1,10 @@
+package com.whdgkr.tripsplite.repository;
+
+/**
+ * 동행자별 부담(분배) 금액 합계 projection
+ */
+public interface ParticipantSpendTotal {
+    Long getParticipantId();
+    String getParticipantName();
+    Long getTotal();
+}
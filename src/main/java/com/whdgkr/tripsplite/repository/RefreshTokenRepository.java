@@ -2,12 +2,34 @@ package com.whdgkr.tripsplite.repository;
 
 import com.whdgkr.tripsplite.entity.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
     Optional<RefreshToken> findByTokenHashAndRevokedYn(String tokenHash, String revokedYn);
     void deleteByMemberId(Long memberId);
+
+    // 유효한(미폐기/미만료) 토큰 해시 목록 (revocation 필터 재구성용)
+    @Query("SELECT r.tokenHash FROM RefreshToken r WHERE r.revokedYn = 'N' AND r.expiresAt > :now")
+    List<String> findActiveTokenHashes(@Param("now") LocalDateTime now);
+
+    // 만료된 토큰 삭제 (chunk 단위, 호출마다 짧은 트랜잭션)
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE expires_at < :cutoff LIMIT :limit", nativeQuery = true)
+    int deleteExpiredChunk(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // 폐기된 지 오래된 토큰 삭제 (chunk 단위, 호출마다 짧은 트랜잭션)
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE revoked_yn = 'Y' AND revoked_at < :cutoff LIMIT :limit", nativeQuery = true)
+    int deleteRevokedChunk(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
@@ -0,0 +1,63 @@
+package com.whdgkr.tripsplite.repository;
+
+import com.whdgkr.tripsplite.entity.TripExpenseRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TripExpenseRollupRepository extends JpaRepository<TripExpenseRollup, Long> {
+
+    // 카테고리별 지출 합계 (지출 단위 행)
+    @Query("SELECT r.category AS category, SUM(r.amount) AS total, SUM(r.expenseCount) AS expenseCount " +
+            "FROM TripExpenseRollup r WHERE r.tripId = :tripId AND r.participantId = 0 " +
+            "GROUP BY r.category HAVING SUM(r.expenseCount) > 0")
+    List<CategoryAmountTotal> sumByCategory(@Param("tripId") Long tripId);
+
+    // 일자별 지출 합계 (지출 단위 행, 날짜 오름차순)
+    @Query("SELECT r.expenseDate AS day, SUM(r.amount) AS total, SUM(r.expenseCount) AS expenseCount " +
+            "FROM TripExpenseRollup r WHERE r.tripId = :tripId AND r.participantId = 0 " +
+            "GROUP BY r.expenseDate HAVING SUM(r.expenseCount) > 0 " +
+            "ORDER BY r.expenseDate")
+    List<DailyAmountTotal> sumByDay(@Param("tripId") Long tripId);
+
+    // 동행자별 부담 금액 합계 (동행자 행)
+    @Query("SELECT p.id AS participantId, p.name AS participantName, SUM(r.amount) AS total " +
+            "FROM TripExpenseRollup r JOIN Participant p ON p.id = r.participantId " +
+            "WHERE r.tripId = :tripId AND r.participantId <> 0 " +
+            "GROUP BY p.id, p.name HAVING SUM(r.expenseCount) > 0")
+    List<ParticipantSpendTotal> sumByParticipant(@Param("tripId") Long tripId);
+
+    @Modifying
+    @Query(value = "DELETE FROM trip_expense_rollups WHERE trip_id = :tripId", nativeQuery = true)
+    int deleteByTripId(@Param("tripId") Long tripId);
+
+    // 원본 기준 재생성 - 지출 단위 행
+    @Modifying
+    @Query(value = "INSERT INTO trip_expense_rollups " +
+            "(trip_id, category, expense_date, participant_id, amount, expense_count, unsettled_amount, unsettled_count, updated_at) " +
+            "SELECT e.trip_id, e.category, DATE(e.occurred_at), 0, SUM(e.total_amount), COUNT(*), " +
+            "SUM(CASE WHEN e.settled_yn = 'N' THEN e.total_amount ELSE 0 END), " +
+            "SUM(CASE WHEN e.settled_yn = 'N' THEN 1 ELSE 0 END), NOW(3) " +
+            "FROM expenses e WHERE e.trip_id = :tripId AND e.delete_yn = 'N' " +
+            "GROUP BY e.trip_id, e.category, DATE(e.occurred_at)",
+            nativeQuery = true)
+    int rebuildExpenseRows(@Param("tripId") Long tripId);
+
+    // 원본 기준 재생성 - 동행자별 분배 행
+    @Modifying
+    @Query(value = "INSERT INTO trip_expense_rollups " +
+            "(trip_id, category, expense_date, participant_id, amount, expense_count, unsettled_amount, unsettled_count, updated_at) " +
+            "SELECT e.trip_id, e.category, DATE(e.occurred_at), es.participant_id, SUM(es.amount), COUNT(DISTINCT e.id), " +
+            "SUM(CASE WHEN e.settled_yn = 'N' THEN es.amount ELSE 0 END), " +
+            "COUNT(DISTINCT CASE WHEN e.settled_yn = 'N' THEN e.id END), NOW(3) " +
+            "FROM expense_shares es JOIN expenses e ON e.id = es.expense_id " +
+            "WHERE e.trip_id = :tripId AND e.delete_yn = 'N' AND es.delete_yn = 'N' " +
+            "GROUP BY e.trip_id, e.category, DATE(e.occurred_at), es.participant_id",
+            nativeQuery = true)
+    int rebuildShareRows(@Param("tripId") Long tripId);
+}
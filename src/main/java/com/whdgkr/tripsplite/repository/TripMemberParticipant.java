@@ -0,0 +1,14 @@
+package com.whdgkr.tripsplite.repository;
+
+/**
+ * 회원이 참여 중인 여행의 동행자 projection
+ * - memberId/memberName은 회원과 연결된 동행자만 값이 있음
+ */
+public interface TripMemberParticipant {
+    Long getParticipantId();
+    Long getTripId();
+    String getTripTitle();
+    String getParticipantName();
+    Long getMemberId();
+    String getMemberName();
+}
@@ -0,0 +1,14 @@
+package com.whdgkr.tripsplite.repository;
+
+import com.whdgkr.tripsplite.entity.TripParticipantBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TripParticipantBalanceRepository extends JpaRepository<TripParticipantBalance, Long> {
+    List<TripParticipantBalance> findByTripId(Long tripId);
+    List<TripParticipantBalance> findByTripIdIn(Collection<Long> tripIds);
+}
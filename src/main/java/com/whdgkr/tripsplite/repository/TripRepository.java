@@ -1,12 +1,49 @@
 package com.whdgkr.tripsplite.repository;
 
 import com.whdgkr.tripsplite.entity.Trip;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TripRepository extends JpaRepository<Trip, Long> {
     List<Trip> findByDeleteYn(String deleteYn);
+
+    // 상세 조회용: 동행자까지 한 번에 조회
+    @EntityGraph("Trip.withParticipants")
+    Optional<Trip> findWithParticipantsById(Long id);
+
+    @Query("SELECT t.id FROM Trip t WHERE t.deleteYn = :deleteYn ORDER BY t.id")
+    List<Long> findIdsByDeleteYn(@Param("deleteYn") String deleteYn);
+
+    @Query("SELECT t.version FROM Trip t WHERE t.id = :tripId")
+    Optional<Long> findVersionById(@Param("tripId") Long tripId);
+
+    // 내 친구(email 또는 participants.friend_id)가 동행자로 참여한 활성 여행 id (id 내림차순 keyset)
+    // - 내 친구의 매칭 행에서 출발하여 trips는 PK로만 조인 (전체 여행 수와 무관)
+    @Query(value = "SELECT x.trip_id FROM (" +
+            "  SELECT p.trip_id FROM friends f " +
+            "  JOIN participants p ON p.email = f.email AND p.delete_yn = 'N' " +
+            "  WHERE f.owner_member_id = :memberId AND f.delete_yn = 'N' AND f.email <> '' AND p.trip_id < :cursor " +
+            "  UNION " +
+            "  SELECT p.trip_id FROM friends f " +
+            "  JOIN participants p ON p.friend_id = f.id AND p.delete_yn = 'N' " +
+            "  WHERE f.owner_member_id = :memberId AND f.delete_yn = 'N' AND p.trip_id < :cursor" +
+            ") x JOIN trips t ON t.id = x.trip_id " +
+            "WHERE t.delete_yn = 'N' " +
+            "ORDER BY x.trip_id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findMatchedTripIds(@Param("memberId") Long memberId,
+                                  @Param("cursor") long cursor,
+                                  @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE trips SET version = version + 1 WHERE id = :tripId", nativeQuery = true)
+    int incrementVersion(@Param("tripId") Long tripId);
 }
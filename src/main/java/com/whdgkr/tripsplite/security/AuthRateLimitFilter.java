@@ -0,0 +1,288 @@
+package com.whdgkr.tripsplite.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.whdgkr.tripsplite.config.AuthRateLimitProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * /api/auth 요청 제한 필터 (토큰 버킷)
+ * - 경로별로 클라이언트 IP, 요청 본문의 loginId 각각 제한
+ * - 초과 시 BCrypt/DB 작업 전에 429 + Retry-After 응답
+ * - 클라이언트 IP는 신뢰 프록시에서 온 요청일 때만 X-Forwarded-For 사용
+ * - loginId 제한 경로는 본문을 상한까지만 읽음 (초과 413, 읽기 실패 400) - 제한을 우회하는 본문 없음
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private final AuthRateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final TokenBucketLimiter limiter;
+    private final List<IpAddressMatcher> trustedProxies;
+
+    // IP 리터럴만 프록시 비교 (호스트 이름 DNS 조회 방지)
+    private static final Pattern IP_LITERAL = Pattern.compile("[0-9A-Fa-f:.]+");
+
+    public AuthRateLimitFilter(AuthRateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.limiter = new TokenBucketLimiter(properties.getStripes(), properties.getMaxKeys());
+        this.trustedProxies = properties.getTrustedProxies().stream().map(IpAddressMatcher::new).toList();
+        Gauge.builder("auth.rate.limit.keys", limiter, TokenBucketLimiter::size).register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !"POST".equalsIgnoreCase(request.getMethod())
+                || !request.getRequestURI().startsWith("/api/auth/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Map.Entry<String, AuthRateLimitProperties.Route> route = findRoute(request.getRequestURI());
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String routeName = route.getKey();
+        AuthRateLimitProperties.Limit ipLimit = route.getValue().getIp();
+        AuthRateLimitProperties.Limit loginIdLimit = route.getValue().getLoginId();
+
+        if (ipLimit.getCapacity() > 0) {
+            long retryAfter = limiter.tryAcquire(routeName + "|ip|" + clientIp(request),
+                    ipLimit.getCapacity(), ipLimit.getRefillPerMinute());
+            if (retryAfter > 0) {
+                reject(request, response, routeName, "ip", retryAfter);
+                return;
+            }
+        }
+
+        HttpServletRequest forwarded = request;
+        if (loginIdLimit.getCapacity() > 0) {
+            int maxBytes = properties.getMaxBodyBytes();
+            if (request.getContentLengthLong() > maxBytes) {
+                rejectBody(request, response, routeName, 413, "Payload Too Large", "요청 본문이 너무 큽니다");
+                return;
+            }
+            // Content-Length가 없거나(chunked) 실제 본문이 더 길어도 상한 + 1바이트까지만 읽음
+            byte[] body;
+            try {
+                body = request.getInputStream().readNBytes(maxBytes + 1);
+            } catch (IOException e) {
+                rejectBody(request, response, routeName, 400, "Bad Request", "요청 본문을 읽을 수 없습니다");
+                return;
+            }
+            if (body.length > maxBytes) {
+                rejectBody(request, response, routeName, 413, "Payload Too Large", "요청 본문이 너무 큽니다");
+                return;
+            }
+
+            forwarded = new CachedBodyRequest(request, body);
+            String loginId = readLoginId(body);
+            if (loginId != null) {
+                long retryAfter = limiter.tryAcquire(routeName + "|loginId|" + loginId.toLowerCase(Locale.ROOT),
+                        loginIdLimit.getCapacity(), loginIdLimit.getRefillPerMinute());
+                if (retryAfter > 0) {
+                    reject(request, response, routeName, "loginId", retryAfter);
+                    return;
+                }
+            }
+        }
+
+        filterChain.doFilter(forwarded, response);
+    }
+
+    // 오래 사용되지 않은 키 정리
+    @Scheduled(fixedDelayString = "${auth.rate-limit.sweep-interval-ms:60000}")
+    public void evictIdleKeys() {
+        limiter.evictIdle(TimeUnit.SECONDS.toNanos(properties.getIdleEvictSeconds()));
+    }
+
+    private Map.Entry<String, AuthRateLimitProperties.Route> findRoute(String uri) {
+        for (Map.Entry<String, AuthRateLimitProperties.Route> entry : properties.getRoutes().entrySet()) {
+            if (uri.equals(entry.getValue().getPath())) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, String route, String keyType,
+                        long retryAfterSeconds) throws IOException {
+        meterRegistry.counter("auth.rate.limit.rejected", "route", route, "key", keyType).increment();
+        log.warn("[AUTH] rate limited: route={}, key={}, ip={}, retryAfter={}s",
+                route, keyType, clientIp(request), retryAfterSeconds);
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        writeError(request, response, 429, "Too Many Requests", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요");
+    }
+
+    private void rejectBody(HttpServletRequest request, HttpServletResponse response, String route,
+                            int status, String error, String message) throws IOException {
+        meterRegistry.counter("auth.rate.limit.rejected", "route", route, "key", "body").increment();
+        log.warn("[AUTH] request body rejected: route={}, status={}, contentLength={}, ip={}",
+                route, status, request.getContentLengthLong(), clientIp(request));
+        writeError(request, response, status, error, message);
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, int status,
+                            String error, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        Map<String, Object> body = Map.of(
+                "status", status,
+                "error", error,
+                "message", message,
+                "path", request.getRequestURI()
+        );
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private String readLoginId(byte[] body) {
+        try {
+            JsonNode node = objectMapper.readTree(body);
+            JsonNode loginId = node != null ? node.get("loginId") : null;
+            return loginId != null && loginId.isTextual() ? loginId.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 제한 키로 쓸 클라이언트 IP
+     * - 직접 연결한 주소가 신뢰 프록시가 아니면 X-Forwarded-For는 클라이언트가 임의로 넣은 값이므로 무시
+     * - 신뢰 프록시면 X-Forwarded-For를 오른쪽부터 보며 신뢰 프록시가 아닌 첫 주소 사용
+     */
+    private String clientIp(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        String xForwardedFor = request.getHeader("X-Forwarded-For");
+        if (xForwardedFor == null || xForwardedFor.isBlank() || !isTrustedProxy(remoteAddr)) {
+            return remoteAddr;
+        }
+        String[] hops = xForwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && !isTrustedProxy(hop)) {
+                return hop;
+            }
+        }
+        String first = hops.length > 0 ? hops[0].trim() : "";
+        return first.isEmpty() ? remoteAddr : first;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        if (trustedProxies.isEmpty() || address == null || !IP_LITERAL.matcher(address).matches()) {
+            return false;
+        }
+        for (IpAddressMatcher matcher : trustedProxies) {
+            if (matcher.matches(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 상한 이내로 읽은 본문을 보관하고 컨트롤러에는 같은 내용을 다시 제공
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문이 이미 메모리에 있으므로 바로 읽기 가능/완료를 통지
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
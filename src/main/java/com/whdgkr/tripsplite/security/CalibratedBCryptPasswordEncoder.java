@@ -0,0 +1,90 @@
+package com.whdgkr.tripsplite.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Locale;
+
+/**
+ * 시작 시 측정한 cost로 해시하는 BCrypt 인코더
+ * - 저장된 해시의 cost가 현재 cost와 다르면(높거나 낮으면) 재해시 대상 - 작은 인스턴스에서 기존 고비용 해시도 낮춤
+ * - 인스턴스 간 cost가 같아야 재해시가 반복되지 않으므로 여러 인스턴스는 auth.password-hash.cost 고정 필요
+ */
+@Slf4j
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final int MIN_COST = 4;
+    private static final int MAX_COST = 31;
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+
+    private final int cost;
+
+    public CalibratedBCryptPasswordEncoder(int cost) {
+        super(cost);
+        this.cost = cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int storedCost = costOf(encodedPassword);
+        return storedCost > 0 && storedCost != cost;
+    }
+
+    /**
+     * 목표 검증 시간 이하인 가장 높은 cost 선택 (단일 스레드 측정 = 코어당 처리량)
+     * - min~max 모든 cost를 측정해 결과표를 로그로 남김 (cost별 검증 시간, 코어당 초당 검증 수)
+     * - 고정 cost를 정할 때 이 표를 기준으로 사용
+     */
+    public static int calibrate(long targetVerifyMs, int minCost, int maxCost) {
+        int lower = Math.max(MIN_COST, minCost);
+        int upper = Math.min(MAX_COST, Math.max(lower, maxCost));
+        int chosen = lower;
+
+        StringBuilder table = new StringBuilder();
+        for (int candidate = lower; candidate <= upper; candidate++) {
+            double ms = measureVerifyMs(candidate);
+            table.append(String.format(Locale.ROOT, "%n  cost=%2d verify=%8.2fms verifies/sec/core=%8.1f",
+                    candidate, ms, 1000.0 / ms));
+            if (ms <= targetVerifyMs) {
+                chosen = candidate;
+            }
+        }
+
+        log.info("BCrypt calibration: targetVerifyMs={}, chosenCost={}{}", targetVerifyMs, chosen, table);
+        return chosen;
+    }
+
+    private static double measureVerifyMs(int cost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        String hash = encoder.encode(SAMPLE_PASSWORD);
+        encoder.matches(SAMPLE_PASSWORD, hash); // warm-up
+
+        // 느린 cost는 1회, 빠른 cost는 여러 번 측정
+        int iterations = cost <= 8 ? 5 : cost <= 11 ? 3 : 1;
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            encoder.matches(SAMPLE_PASSWORD, hash);
+        }
+        return (System.nanoTime() - startedAt) / 1_000_000.0 / iterations;
+    }
+
+    // "$2a$10$..." 형식에서 cost 추출 (형식이 다르면 0)
+    private static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return 0;
+        }
+        int end = encodedPassword.indexOf('$', 1);
+        if (end < 0 || encodedPassword.length() < end + 3) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(end + 1, end + 3));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
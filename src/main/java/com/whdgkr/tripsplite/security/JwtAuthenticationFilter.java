@@ -16,18 +16,19 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtProvider jwtProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
+    // /api/dev/**는 인증이 필요한 유지보수 엔드포인트(ledger, rollups)가 있어 필터를 거침
     private static final List<String> PERMIT_ALL_PATHS = List.of(
-            "/api/auth/**",
-            "/api/dev/**"
+            "/api/auth/**"
     );
 
     @Override
@@ -49,7 +50,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         // Auth 엔드포인트는 절대 건드리지 않음 (이중 안전장치)
         if (path.startsWith("/api/auth/signup") || path.startsWith("/api/auth/login")
-                || path.startsWith("/api/auth/refresh") || path.startsWith("/api/dev/")) {
+                || path.startsWith("/api/auth/refresh")) {
             log.info("[JWT] DOUBLE_CHECK_SKIP path={}", path);
             filterChain.doFilter(request, response);
             return;
@@ -60,19 +61,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = extractToken(request);
 
         if (StringUtils.hasText(token)) {
-            if (jwtProvider.validateToken(token)) {
-                String tokenType = jwtProvider.getTokenType(token);
-                if ("access".equals(tokenType)) {
-                    Long memberId = jwtProvider.getMemberIdFromToken(token);
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(memberId, null, Collections.emptyList());
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    log.debug("[JWT Filter] Authentication set for memberId: {}", memberId);
-                } else {
-                    log.debug("[JWT Filter] Token type is not 'access': {}", tokenType);
-                }
-            } else {
+            Optional<JwtClaims> claims = verifiedTokenCache.parse(token);
+            if (claims.isEmpty()) {
                 log.debug("[JWT Filter] Invalid token provided");
+            } else if (claims.get().isAccess()) {
+                Long memberId = claims.get().memberId();
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(memberId, null, Collections.emptyList());
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                log.debug("[JWT Filter] Authentication set for memberId: {}", memberId);
+            } else {
+                log.debug("[JWT Filter] Token type is not 'access': {}", claims.get().type());
             }
         } else {
             log.debug("[JWT Filter] No token provided");
@@ -0,0 +1,22 @@
+package com.whdgkr.tripsplite.security;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 JWT 클레임
+ * - loginId는 access 토큰에만 존재
+ * - issuedAt/expiresAt은 초 단위 정밀도
+ */
+public record JwtClaims(Long memberId, String loginId, String type, Instant issuedAt, Instant expiresAt) {
+
+    public static final String TYPE_ACCESS = "access";
+    public static final String TYPE_REFRESH = "refresh";
+
+    public boolean isAccess() {
+        return TYPE_ACCESS.equals(type);
+    }
+
+    public boolean isRefresh() {
+        return TYPE_REFRESH.equals(type);
+    }
+}
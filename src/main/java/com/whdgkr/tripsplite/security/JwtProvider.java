@@ -8,11 +8,13 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtProvider {
 
     private final SecretKey secretKey;
+    private final JwtParser parser; // 불변/스레드 안전 - 시작 시 1회 생성
     private final long accessTokenExpiry;
     private final long refreshTokenExpiry;
 
@@ -21,6 +23,7 @@ public class JwtProvider {
             @Value("${jwt.access-token-expiry}") long accessTokenExpiry,
             @Value("${jwt.refresh-token-expiry}") long refreshTokenExpiry) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
         this.accessTokenExpiry = accessTokenExpiry;
         this.refreshTokenExpiry = refreshTokenExpiry;
     }
@@ -32,7 +35,7 @@ public class JwtProvider {
         return Jwts.builder()
                 .subject(String.valueOf(memberId))
                 .claim("loginId", loginId)
-                .claim("type", "access")
+                .claim("type", JwtClaims.TYPE_ACCESS)
                 .issuedAt(now)
                 .expiration(expiry)
                 .signWith(secretKey)
@@ -45,52 +48,31 @@ public class JwtProvider {
 
         return Jwts.builder()
                 .subject(String.valueOf(memberId))
-                .claim("type", "refresh")
+                .claim("type", JwtClaims.TYPE_REFRESH)
                 .issuedAt(now)
                 .expiration(expiry)
                 .signWith(secretKey)
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 서명/만료 검증 후 클레임 추출 (토큰당 1회 파싱)
+     * @return 유효하지 않은 토큰이면 empty
+     */
+    public Optional<JwtClaims> parse(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            return Optional.of(new JwtClaims(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("loginId", String.class),
+                    claims.get("type", String.class),
+                    claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                    claims.getExpiration() != null ? claims.getExpiration().toInstant() : null));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
-    public Long getMemberIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return Long.parseLong(claims.getSubject());
-    }
-
-    public String getLoginIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.get("loginId", String.class);
-    }
-
-    public String getTokenType(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.get("type", String.class);
-    }
-
     public long getRefreshTokenExpiry() {
         return refreshTokenExpiry;
     }
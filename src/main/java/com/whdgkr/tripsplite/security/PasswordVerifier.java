@@ -0,0 +1,129 @@
+package com.whdgkr.tripsplite.security;
+
+import com.whdgkr.tripsplite.config.RetryAfterException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 검증 전용 실행기
+ * - BCrypt 검증을 요청 스레드/DB 트랜잭션 밖의 코어 수 크기 풀에서 실행
+ * - 대기열이 가득 차거나 대기 시간이 초과되면 즉시 503 + Retry-After로 거절
+ */
+@Slf4j
+@Component
+public class PasswordVerifier {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final long retryAfterSeconds;
+    private final Timer verifyTimer;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordVerifier(
+            PasswordEncoder passwordEncoder,
+            @Value("${auth.password-verify.threads:0}") int threads,
+            @Value("${auth.password-verify.queue-capacity:32}") int queueCapacity,
+            @Value("${auth.password-verify.timeout-ms:5000}") long timeoutMs,
+            @Value("${auth.password-verify.retry-after-seconds:2}") long retryAfterSeconds,
+            MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMs = timeoutMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        // 0이면 CPU 코어 수
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "password-verify-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.verifyTimer = Timer.builder("auth.password.verify")
+                .description("비밀번호 해시 검증 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("auth.password.verify.wait")
+                .description("검증 대기열 대기 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = meterRegistry.counter("auth.password.verify.rejected");
+        Gauge.builder("auth.password.verify.queue", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("auth.password.verify.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+
+        log.info("Password verifier started: threads={}, queueCapacity={}", poolSize, queueCapacity);
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return verify(rawPassword, encodedPassword).matched();
+    }
+
+    /**
+     * 검증 + 필요 시 재해시 (같은 작업 안에서 수행)
+     * - 검증 성공이고 저장된 해시의 cost/형식이 현재 설정과 다르면 rehash에 새 해시를 담음
+     */
+    public Result verify(String rawPassword, String encodedPassword) {
+        long submittedAt = System.nanoTime();
+        Future<Result> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                boolean matched = verifyTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+                String rehash = matched && passwordEncoder.upgradeEncoding(encodedPassword)
+                        ? passwordEncoder.encode(rawPassword)
+                        : null;
+                return new Result(matched, rehash);
+            });
+        } catch (RejectedExecutionException e) {
+            throw overloaded("queue full");
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw overloaded("timeout");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw overloaded("interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private RetryAfterException overloaded(String cause) {
+        rejectedCounter.increment();
+        log.warn("[AUTH] password verification rejected: cause={}, queue={}", cause, executor.getQueue().size());
+        return new RetryAfterException(HttpStatus.SERVICE_UNAVAILABLE,
+                "로그인 요청이 많아 잠시 후 다시 시도해주세요", retryAfterSeconds);
+    }
+
+    public record Result(boolean matched, String rehash) {
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
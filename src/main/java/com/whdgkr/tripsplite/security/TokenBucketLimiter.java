@@ -0,0 +1,97 @@
+package com.whdgkr.tripsplite.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 키별 토큰 버킷 (lock striping)
+ * - 키 해시로 stripe를 고르고 stripe 단위로만 잠금 -> 서로 다른 키는 대부분 경합 없음
+ * - stripe마다 최대 개수를 넘으면 가장 오래 사용되지 않은 키 제거 (메모리 상한)
+ * - 오래 사용되지 않은 키는 evictIdle로 정리 (가득 찬 버킷과 동일하므로 제거해도 결과 동일)
+ */
+public class TokenBucketLimiter {
+
+    private final Stripe[] stripes;
+
+    public TokenBucketLimiter(int stripeCount, int maxKeys) {
+        int count = Math.max(1, stripeCount);
+        int perStripe = Math.max(1, maxKeys / count);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    /**
+     * 토큰 1개 소비 시도
+     * @return 허용이면 0, 거절이면 다음 토큰까지 남은 초 (최소 1)
+     */
+    public long tryAcquire(String key, int capacity, double refillPerMinute) {
+        Stripe stripe = stripes[Math.floorMod(key.hashCode(), stripes.length)];
+        long now = System.nanoTime();
+        double refillPerNano = refillPerMinute / 60_000_000_000.0;
+
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, now);
+                stripe.buckets.put(key, bucket);
+            } else {
+                bucket.tokens = Math.min(capacity, bucket.tokens + (now - bucket.updatedAt) * refillPerNano);
+                bucket.updatedAt = now;
+            }
+
+            if (bucket.tokens >= 1.0) {
+                bucket.tokens -= 1.0;
+                return 0;
+            }
+            if (refillPerNano <= 0) {
+                return 60;
+            }
+            double nanosUntilToken = (1.0 - bucket.tokens) / refillPerNano;
+            return Math.max(1, (long) Math.ceil(nanosUntilToken / 1_000_000_000.0));
+        }
+    }
+
+    public void evictIdle(long idleNanos) {
+        long now = System.nanoTime();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.buckets.values().removeIf(bucket -> now - bucket.updatedAt > idleNanos);
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.buckets.size();
+            }
+        }
+        return size;
+    }
+
+    private static final class Stripe {
+        final Map<String, Bucket> buckets;
+
+        Stripe(int maxKeys) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+    }
+
+    private static final class Bucket {
+        double tokens;
+        long updatedAt;
+
+        Bucket(double tokens, long updatedAt) {
+            this.tokens = tokens;
+            this.updatedAt = updatedAt;
+        }
+    }
+}
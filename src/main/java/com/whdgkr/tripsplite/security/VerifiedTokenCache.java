@@ -0,0 +1,102 @@
+package com.whdgkr.tripsplite.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 검증 완료된 access 토큰 캐시
+ * - 키: 토큰 SHA-256 digest (원본 토큰은 보관하지 않음), 값: 검증된 클레임
+ * - 토큰의 exp 시각에 만료, 최대 개수 초과 시 먼저 들어온 항목부터 제거
+ * - 조회는 ConcurrentHashMap.get만 사용 (락 없음)
+ * - 같은 토큰 재요청 시 HMAC 검증과 클레임 JSON 파싱 생략
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtProvider jwtProvider;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, JwtClaims> entries = new ConcurrentHashMap<>();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public VerifiedTokenCache(
+            JwtProvider jwtProvider,
+            @Value("${jwt.verified-cache.enabled:false}") boolean enabled,
+            @Value("${jwt.verified-cache.max-entries:10000}") int maxEntries,
+            MeterRegistry meterRegistry) {
+        this.jwtProvider = jwtProvider;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.hitCounter = meterRegistry.counter("jwt.verified.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("jwt.verified.cache", "result", "miss");
+        Gauge.builder("jwt.verified.cache.size", entries, ConcurrentHashMap::size).register(meterRegistry);
+        Gauge.builder("jwt.verified.cache.hit.ratio", this, VerifiedTokenCache::hitRatio).register(meterRegistry);
+    }
+
+    /**
+     * 캐시 확인 후 없으면 JwtProvider로 검증 (유효한 access 토큰만 저장)
+     */
+    public Optional<JwtClaims> parse(String token) {
+        if (!enabled) {
+            return jwtProvider.parse(token);
+        }
+
+        String digest = TokenHashUtil.hash(token);
+        JwtClaims cached = entries.get(digest);
+        if (cached != null) {
+            if (Instant.now().isBefore(cached.expiresAt())) {
+                hitCounter.increment();
+                return Optional.of(cached);
+            }
+            entries.remove(digest, cached);
+        }
+
+        missCounter.increment();
+        Optional<JwtClaims> claims = jwtProvider.parse(token);
+        claims.filter(c -> c.isAccess() && c.expiresAt() != null)
+                .ifPresent(c -> put(digest, c));
+        return claims;
+    }
+
+    private void put(String digest, JwtClaims claims) {
+        if (entries.put(digest, claims) == null) {
+            insertionOrder.add(digest);
+        }
+        while (entries.size() > maxEntries) {
+            String eldest = insertionOrder.poll();
+            if (eldest == null) {
+                break;
+            }
+            entries.remove(eldest);
+        }
+    }
+
+    // 만료된 항목 정리 (조회되지 않는 토큰이 최대 개수까지 남아있지 않도록)
+    @Scheduled(fixedDelayString = "${jwt.verified-cache.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        if (!enabled) {
+            return;
+        }
+        Instant now = Instant.now();
+        entries.values().removeIf(claims -> !now.isBefore(claims.expiresAt()));
+        insertionOrder.removeIf(digest -> !entries.containsKey(digest));
+    }
+
+    private double hitRatio() {
+        double hits = hitCounter.count();
+        double total = hits + missCounter.count();
+        return total > 0 ? hits / total : 0.0;
+    }
+}
@@ -5,7 +5,9 @@ import com.whdgkr.tripsplite.entity.Member;
 import com.whdgkr.tripsplite.entity.RefreshToken;
 import com.whdgkr.tripsplite.repository.MemberRepository;
 import com.whdgkr.tripsplite.repository.RefreshTokenRepository;
+import com.whdgkr.tripsplite.security.JwtClaims;
 import com.whdgkr.tripsplite.security.JwtProvider;
+import com.whdgkr.tripsplite.security.PasswordVerifier;
 import com.whdgkr.tripsplite.security.TokenHashUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,8 +15,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 @Slf4j
@@ -26,6 +30,9 @@ public class AuthService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtProvider jwtProvider;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifier passwordVerifier;
+    private final TransactionTemplate transactionTemplate;
+    private final RefreshTokenRevocationFilter refreshTokenFilter;
 
     @Transactional
     public MemberResponse signup(SignupRequest request) {
@@ -62,19 +69,33 @@ public class AuthService {
                 .build();
     }
 
-    @Transactional
+    /**
+     * 로그인 (트랜잭션을 단계별로 분리)
+     * - 회원 조회: 짧은 읽기 트랜잭션
+     * - 비밀번호 검증: 트랜잭션/DB 커넥션 없이 전용 실행기에서 수행 (과부하 시 503)
+     * - 토큰 발급/저장(+ 필요 시 비밀번호 재해시): 별도 쓰기 트랜잭션
+     */
     public LoginResponse login(LoginRequest request, String userAgent, String ipAddress) {
         Member member = memberRepository.findByLoginIdAndDeleteYn(request.getLoginId(), "N")
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid credentials"));
 
-        if (!passwordEncoder.matches(request.getPassword(), member.getPasswordHash())) {
+        PasswordVerifier.Result verification = passwordVerifier.verify(request.getPassword(), member.getPasswordHash());
+        if (!verification.matched()) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid credentials");
         }
 
         String accessToken = jwtProvider.createAccessToken(member.getId(), member.getLoginId());
         String refreshToken = jwtProvider.createRefreshToken(member.getId());
 
-        saveRefreshToken(member, refreshToken, userAgent, ipAddress);
+        transactionTemplate.executeWithoutResult(status -> {
+            // 해시 cost/형식이 현재 설정과 다르면 새 해시로 교체
+            if (verification.rehash() != null) {
+                member.updatePassword(verification.rehash());
+                memberRepository.save(member);
+                log.info("[AUTH] password hash re-encoded: memberId={}", member.getId());
+            }
+            saveRefreshToken(member, refreshToken, userAgent, ipAddress);
+        });
 
         return LoginResponse.builder()
                 .accessToken(accessToken)
@@ -88,67 +109,92 @@ public class AuthService {
                 .build();
     }
 
-    @Transactional
+    /**
+     * 토큰 갱신 (회전)
+     * - 서명 검증과 revocation 필터 판정은 트랜잭션/DB 커넥션 없이 수행 (재사용/폐기 토큰은 DB 조회 없이 401)
+     * - 필터를 통과한 경우에만 쓰기 트랜잭션에서 조회/폐기/재발급
+     */
     public TokenResponse refresh(String refreshTokenValue, String userAgent, String ipAddress) {
-        if (!jwtProvider.validateToken(refreshTokenValue)) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token");
-        }
+        JwtClaims claims = jwtProvider.parse(refreshTokenValue)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token"));
 
-        String tokenType = jwtProvider.getTokenType(refreshTokenValue);
-        if (!"refresh".equals(tokenType)) {
+        if (!claims.isRefresh()) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid token type");
         }
 
         String tokenHash = TokenHashUtil.hash(refreshTokenValue);
-        RefreshToken storedToken = refreshTokenRepository.findByTokenHashAndRevokedYn(tokenHash, "N")
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token not found or revoked"));
-
-        if (!storedToken.isValid()) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token expired or revoked");
+        if (!refreshTokenFilter.mightBeActive(tokenHash, claims.issuedAt())) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token not found or revoked");
         }
 
-        storedToken.revoke();
-        refreshTokenRepository.save(storedToken);
+        TokenResponse response = transactionTemplate.execute(status -> {
+            RefreshToken storedToken = refreshTokenRepository.findByTokenHashAndRevokedYn(tokenHash, "N")
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token not found or revoked"));
 
-        Member member = storedToken.getMember();
-        String newAccessToken = jwtProvider.createAccessToken(member.getId(), member.getLoginId());
-        String newRefreshToken = jwtProvider.createRefreshToken(member.getId());
+            if (!storedToken.isValid()) {
+                throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token expired or revoked");
+            }
 
-        saveRefreshToken(member, newRefreshToken, userAgent, ipAddress);
+            storedToken.revoke();
+            refreshTokenRepository.save(storedToken);
 
-        return TokenResponse.builder()
-                .accessToken(newAccessToken)
-                .refreshToken(newRefreshToken)
-                .build();
+            Member member = storedToken.getMember();
+            String newAccessToken = jwtProvider.createAccessToken(member.getId(), member.getLoginId());
+            String newRefreshToken = jwtProvider.createRefreshToken(member.getId());
+
+            saveRefreshToken(member, newRefreshToken, userAgent, ipAddress);
+
+            return TokenResponse.builder()
+                    .accessToken(newAccessToken)
+                    .refreshToken(newRefreshToken)
+                    .build();
+        });
+
+        // 커밋 이후 기록 (롤백된 회전을 폐기로 오인하지 않도록)
+        refreshTokenFilter.onRevoked(tokenHash);
+        return response;
     }
 
-    @Transactional
     public void logout(String refreshTokenValue) {
         if (refreshTokenValue == null || refreshTokenValue.isEmpty()) {
             return;
         }
 
         String tokenHash = TokenHashUtil.hash(refreshTokenValue);
-        refreshTokenRepository.findByTokenHashAndRevokedYn(tokenHash, "N")
-                .ifPresent(token -> {
-                    token.revoke();
-                    refreshTokenRepository.save(token);
-                });
+        // 만료 등으로 파싱되지 않는 토큰은 최근 폐기 캐시만 확인하고 DB에서 처리
+        Instant issuedAt = jwtProvider.parse(refreshTokenValue).map(JwtClaims::issuedAt).orElse(null);
+        if (!refreshTokenFilter.mightBeActive(tokenHash, issuedAt)) {
+            return;
+        }
+
+        Boolean revoked = transactionTemplate.execute(status ->
+                refreshTokenRepository.findByTokenHashAndRevokedYn(tokenHash, "N")
+                        .map(token -> {
+                            token.revoke();
+                            refreshTokenRepository.save(token);
+                            return true;
+                        })
+                        .orElse(false));
+        if (Boolean.TRUE.equals(revoked)) {
+            refreshTokenFilter.onRevoked(tokenHash);
+        }
     }
 
     private void saveRefreshToken(Member member, String refreshToken, String userAgent, String ipAddress) {
         long expiryMs = jwtProvider.getRefreshTokenExpiry();
         LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(expiryMs / 1000);
 
+        String tokenHash = TokenHashUtil.hash(refreshToken);
         RefreshToken token = RefreshToken.builder()
                 .member(member)
-                .tokenHash(TokenHashUtil.hash(refreshToken))
+                .tokenHash(tokenHash)
                 .expiresAt(expiresAt)
                 .userAgent(userAgent)
                 .ipAddress(ipAddress)
                 .build();
 
         refreshTokenRepository.save(token);
+        refreshTokenFilter.onIssued(tokenHash);
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,240 @@
+package com.whdgkr.tripsplite.service;
+
+import com.whdgkr.tripsplite.dto.LedgerDriftReport;
+import com.whdgkr.tripsplite.entity.TripParticipantBalance;
+import com.whdgkr.tripsplite.repository.ExpensePaymentRepository;
+import com.whdgkr.tripsplite.repository.ExpenseShareRepository;
+import com.whdgkr.tripsplite.repository.ParticipantAmountTotal;
+import com.whdgkr.tripsplite.repository.TripParticipantBalanceRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 동행자별 정산 잔액 원장 관리
+ * - 지출 변경 트랜잭션 안에서 변경 전/후 스냅샷 차이만큼 원장을 가산
+ * - 원본(지출/결제/분배) 기준 재계산으로 원장 오차(drift) 검증 및 복구
+ * - 동행자별 증분은 다중 행 upsert 한 문장으로 반영 (동행자 ID 순서로 잠금)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BalanceLedgerService {
+
+    private static final int PAID = 0;
+    private static final int SHARE = 1;
+    private static final int UNSETTLED_PAID = 2;
+    private static final int UNSETTLED_SHARE = 3;
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private final TripParticipantBalanceRepository balanceRepository;
+    private final ExpensePaymentRepository expensePaymentRepository;
+    private final ExpenseShareRepository expenseShareRepository;
+    private final EntityManager entityManager;
+
+    @Transactional
+    public void applyChange(Long tripId, ExpenseSnapshot before, ExpenseSnapshot after) {
+        Map<Long, long[]> deltas = new HashMap<>();
+        accumulate(deltas, before, -1);
+        accumulate(deltas, after, 1);
+
+        writeDeltas(tripId, deltas);
+    }
+
+    /**
+     * 신규 지출 여러 건을 동행자별로 합산하여 한 번씩만 반영 (일괄 등록용)
+     */
+    @Transactional
+    public void applyAdded(Long tripId, List<ExpenseSnapshot> added) {
+        Map<Long, long[]> deltas = new HashMap<>();
+        for (ExpenseSnapshot snapshot : added) {
+            accumulate(deltas, snapshot, 1);
+        }
+
+        writeDeltas(tripId, deltas);
+    }
+
+    /**
+     * 동행자별 결제/분배 합계 조회
+     * @param unsettledOnly true면 미정산 지출만 합산 (scope=UNSETTLED)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Totals> readTotals(Long tripId, boolean unsettledOnly) {
+        Map<Long, Totals> totals = new HashMap<>();
+        for (TripParticipantBalance balance : balanceRepository.findByTripId(tripId)) {
+            totals.put(balance.getParticipantId(), unsettledOnly
+                    ? new Totals(balance.getUnsettledPaidTotal(), balance.getUnsettledShareTotal())
+                    : new Totals(balance.getPaidTotal(), balance.getShareTotal()));
+        }
+        return totals;
+    }
+
+    /**
+     * 여러 여행의 동행자별 합계를 한 번에 조회 (동행자 ID는 여행 간 고유)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Totals> readTotals(Collection<Long> tripIds, boolean unsettledOnly) {
+        Map<Long, Totals> totals = new HashMap<>();
+        if (tripIds.isEmpty()) {
+            return totals;
+        }
+        for (TripParticipantBalance balance : balanceRepository.findByTripIdIn(tripIds)) {
+            totals.put(balance.getParticipantId(), unsettledOnly
+                    ? new Totals(balance.getUnsettledPaidTotal(), balance.getUnsettledShareTotal())
+                    : new Totals(balance.getPaidTotal(), balance.getShareTotal()));
+        }
+        return totals;
+    }
+
+    /**
+     * 원본 데이터로 원장을 재계산하여 비교
+     * - repair=true면 차이만큼 가산하여 복구 (동시 변경분과 충돌하지 않도록 덮어쓰지 않음)
+     */
+    @Transactional
+    public LedgerDriftReport verifyTrip(Long tripId, boolean repair) {
+        Map<Long, long[]> actual = recomputeFromSource(tripId);
+
+        Map<Long, long[]> ledger = new HashMap<>();
+        for (TripParticipantBalance balance : balanceRepository.findByTripId(tripId)) {
+            ledger.put(balance.getParticipantId(), new long[]{
+                    balance.getPaidTotal(), balance.getShareTotal(),
+                    balance.getUnsettledPaidTotal(), balance.getUnsettledShareTotal()});
+        }
+
+        Set<Long> participantIds = new TreeSet<>(actual.keySet());
+        participantIds.addAll(ledger.keySet());
+
+        List<LedgerDriftReport.ParticipantDrift> drifts = new ArrayList<>();
+        Map<Long, long[]> repairs = new HashMap<>();
+        for (Long participantId : participantIds) {
+            long[] a = actual.getOrDefault(participantId, new long[4]);
+            long[] l = ledger.getOrDefault(participantId, new long[4]);
+            if (Arrays.equals(a, l)) {
+                continue;
+            }
+
+            drifts.add(LedgerDriftReport.ParticipantDrift.builder()
+                    .participantId(participantId)
+                    .ledgerPaid(l[PAID]).actualPaid(a[PAID])
+                    .ledgerShare(l[SHARE]).actualShare(a[SHARE])
+                    .ledgerUnsettledPaid(l[UNSETTLED_PAID]).actualUnsettledPaid(a[UNSETTLED_PAID])
+                    .ledgerUnsettledShare(l[UNSETTLED_SHARE]).actualUnsettledShare(a[UNSETTLED_SHARE])
+                    .build());
+
+            if (repair) {
+                repairs.put(participantId, new long[]{
+                        a[PAID] - l[PAID], a[SHARE] - l[SHARE],
+                        a[UNSETTLED_PAID] - l[UNSETTLED_PAID], a[UNSETTLED_SHARE] - l[UNSETTLED_SHARE]});
+            }
+        }
+        writeDeltas(tripId, repairs);
+
+        if (!drifts.isEmpty()) {
+            log.warn("Ledger drift detected: tripId={}, driftedParticipants={}, repaired={}", tripId, drifts.size(), repair);
+        }
+
+        return LedgerDriftReport.builder()
+                .tripId(tripId)
+                .participantsChecked(participantIds.size())
+                .repaired(repair && !drifts.isEmpty())
+                .drifts(drifts)
+                .build();
+    }
+
+    /**
+     * 원본 테이블 집계 쿼리로 동행자별 결제/분배 합계 조회 (원장 미사용 경로)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Totals> readSourceTotals(Long tripId, boolean unsettledOnly) {
+        Map<Long, Totals> totals = new HashMap<>();
+        recomputeFromSource(tripId).forEach((participantId, t) -> totals.put(participantId, unsettledOnly
+                ? new Totals(t[UNSETTLED_PAID], t[UNSETTLED_SHARE])
+                : new Totals(t[PAID], t[SHARE])));
+        return totals;
+    }
+
+    private Map<Long, long[]> recomputeFromSource(Long tripId) {
+        Map<Long, long[]> totals = new HashMap<>();
+        for (ParticipantAmountTotal row : expensePaymentRepository.sumActiveAmountsByParticipant(tripId)) {
+            long[] t = totals.computeIfAbsent(row.getParticipantId(), k -> new long[4]);
+            t[PAID] = row.getTotal();
+            t[UNSETTLED_PAID] = row.getUnsettledTotal();
+        }
+        for (ParticipantAmountTotal row : expenseShareRepository.sumActiveAmountsByParticipant(tripId)) {
+            long[] t = totals.computeIfAbsent(row.getParticipantId(), k -> new long[4]);
+            t[SHARE] = row.getTotal();
+            t[UNSETTLED_SHARE] = row.getUnsettledTotal();
+        }
+        return totals;
+    }
+
+    /**
+     * 원장 증분 반영 (행이 없으면 생성, 있으면 원자적으로 가산)
+     * - 변경 없는 동행자는 제외, 나머지는 MAX_ROWS_PER_STATEMENT 행씩 한 문장으로 전송
+     */
+    private void writeDeltas(Long tripId, Map<Long, long[]> deltas) {
+        List<Map.Entry<Long, long[]>> rows = new ArrayList<>();
+        new TreeMap<>(deltas).forEach((participantId, d) -> {
+            if (d[PAID] != 0 || d[SHARE] != 0 || d[UNSETTLED_PAID] != 0 || d[UNSETTLED_SHARE] != 0) {
+                rows.add(Map.entry(participantId, d));
+            }
+        });
+
+        for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<Map.Entry<Long, long[]>> chunk = rows.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, rows.size()));
+            Query query = entityManager.createNativeQuery(upsertSql(chunk.size()));
+            int position = 1;
+            for (Map.Entry<Long, long[]> row : chunk) {
+                long[] d = row.getValue();
+                query.setParameter(position++, tripId);
+                query.setParameter(position++, row.getKey());
+                query.setParameter(position++, d[PAID]);
+                query.setParameter(position++, d[SHARE]);
+                query.setParameter(position++, d[UNSETTLED_PAID]);
+                query.setParameter(position++, d[UNSETTLED_SHARE]);
+            }
+            query.executeUpdate();
+        }
+    }
+
+    private static String upsertSql(int rows) {
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < rows; i++) {
+            values.add("(?, ?, ?, ?, ?, ?, NOW(3))");
+        }
+        return "INSERT INTO trip_participant_balances " +
+                "(trip_id, participant_id, paid_total, share_total, unsettled_paid_total, unsettled_share_total, updated_at) " +
+                "VALUES " + values + " " +
+                "ON DUPLICATE KEY UPDATE " +
+                "paid_total = paid_total + VALUES(paid_total), " +
+                "share_total = share_total + VALUES(share_total), " +
+                "unsettled_paid_total = unsettled_paid_total + VALUES(unsettled_paid_total), " +
+                "unsettled_share_total = unsettled_share_total + VALUES(unsettled_share_total), " +
+                "updated_at = VALUES(updated_at)";
+    }
+
+    private void accumulate(Map<Long, long[]> target, ExpenseSnapshot snapshot, int sign) {
+        snapshot.getPaidByParticipant().forEach((participantId, amount) -> {
+            long[] d = target.computeIfAbsent(participantId, k -> new long[4]);
+            d[PAID] += sign * amount;
+            if (!snapshot.isSettled()) {
+                d[UNSETTLED_PAID] += sign * amount;
+            }
+        });
+        snapshot.getShareByParticipant().forEach((participantId, amount) -> {
+            long[] d = target.computeIfAbsent(participantId, k -> new long[4]);
+            d[SHARE] += sign * amount;
+            if (!snapshot.isSettled()) {
+                d[UNSETTLED_SHARE] += sign * amount;
+            }
+        });
+    }
+
+    public record Totals(long paid, long share) {
+    }
+}
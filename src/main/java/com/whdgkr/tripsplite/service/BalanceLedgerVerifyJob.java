@@ -0,0 +1,50 @@
+package com.whdgkr.tripsplite.service;
+
+import com.whdgkr.tripsplite.dto.LedgerDriftReport;
+import com.whdgkr.tripsplite.repository.TripRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 정산 원장 정기 검증 작업
+ * - 활성 여행마다 별도 트랜잭션으로 원장과 원본 합계를 비교
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceLedgerVerifyJob {
+
+    private final TripRepository tripRepository;
+    private final BalanceLedgerService balanceLedgerService;
+
+    @Value("${settlement.ledger.verify.repair:true}")
+    private boolean repair;
+
+    @Scheduled(cron = "${settlement.ledger.verify.cron:0 30 4 * * *}")
+    public void run() {
+        verifyAll(repair);
+    }
+
+    public List<LedgerDriftReport> verifyAll(boolean repair) {
+        long startedAt = System.currentTimeMillis();
+        List<Long> tripIds = tripRepository.findIdsByDeleteYn("N");
+
+        List<LedgerDriftReport> drifted = new ArrayList<>();
+        for (Long tripId : tripIds) {
+            LedgerDriftReport report = balanceLedgerService.verifyTrip(tripId, repair);
+            if (!report.getDrifts().isEmpty()) {
+                drifted.add(report);
+            }
+        }
+
+        log.info("Ledger verification finished: trips={}, driftedTrips={}, repair={}, elapsedMs={}",
+                tripIds.size(), drifted.size(), repair, System.currentTimeMillis() - startedAt);
+        return drifted;
+    }
+}
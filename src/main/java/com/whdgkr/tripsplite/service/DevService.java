@@ -29,6 +29,8 @@ public class DevService {
     private final FriendRepository friendRepository;
     private final MemberRepository memberRepository;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final TripParticipantBalanceRepository tripParticipantBalanceRepository;
+    private final TripExpenseRollupRepository tripExpenseRollupRepository;
 
     /**
      * 모든 데이터 초기화 (앱 최초 설치 상태로 복원)
@@ -38,6 +40,8 @@ public class DevService {
     public Map<String, Integer> resetAllData() {
         Map<String, Integer> counts = new LinkedHashMap<>();
 
+        counts.put("trip_participant_balances", (int) tripParticipantBalanceRepository.count());
+        counts.put("trip_expense_rollups", (int) tripExpenseRollupRepository.count());
         counts.put("expense_shares", (int) expenseShareRepository.count());
         counts.put("expense_payments", (int) expensePaymentRepository.count());
         counts.put("expenses", (int) expenseRepository.count());
@@ -48,6 +52,8 @@ public class DevService {
         counts.put("members", (int) memberRepository.count());
 
         entityManager.createNativeQuery("SET FOREIGN_KEY_CHECKS = 0").executeUpdate();
+        entityManager.createNativeQuery("TRUNCATE TABLE trip_participant_balances").executeUpdate();
+        entityManager.createNativeQuery("TRUNCATE TABLE trip_expense_rollups").executeUpdate();
         entityManager.createNativeQuery("TRUNCATE TABLE expense_shares").executeUpdate();
         entityManager.createNativeQuery("TRUNCATE TABLE expense_payments").executeUpdate();
         entityManager.createNativeQuery("TRUNCATE TABLE expenses").executeUpdate();
@@ -76,6 +82,8 @@ public class DevService {
         stats.put("expenses", expenseRepository.count());
         stats.put("expense_payments", expensePaymentRepository.count());
         stats.put("expense_shares", expenseShareRepository.count());
+        stats.put("trip_participant_balances", tripParticipantBalanceRepository.count());
+        stats.put("trip_expense_rollups", tripExpenseRollupRepository.count());
 
         return stats;
     }
@@ -0,0 +1,473 @@
+package com.whdgkr.tripsplite.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.whdgkr.tripsplite.dto.ExpenseImportResponse;
+import com.whdgkr.tripsplite.dto.ExpenseRequest;
+import com.whdgkr.tripsplite.entity.Expense;
+import com.whdgkr.tripsplite.entity.ExpenseCategory;
+import com.whdgkr.tripsplite.entity.Participant;
+import com.whdgkr.tripsplite.entity.Trip;
+import com.whdgkr.tripsplite.repository.ExpenseRepository;
+import com.whdgkr.tripsplite.repository.ParticipantRepository;
+import com.whdgkr.tripsplite.repository.TripRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * 지출 일괄 등록 (NDJSON / CSV 스트리밍)
+ * - 한 줄씩 읽어 검증 후 chunk 단위로 별도 트랜잭션에 저장 (파일 전체를 메모리에 올리지 않음)
+ * - chunk마다 정산 원장/통계 집계는 키별 합산 1회, 여행 버전 증가 1회
+ * - 실패한 행은 줄 번호와 사유를 보고하고 나머지 행은 계속 처리
+ * - chunk 저장이 실패하면 해당 chunk만 행 단위로 다시 저장하여 실패 행만 제외
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExpenseImportService {
+
+    public static final String FORMAT_NDJSON = "NDJSON";
+    public static final String FORMAT_CSV = "CSV";
+
+    private static final List<String> CSV_REQUIRED_COLUMNS = List.of("title", "occurredAt", "totalAmount", "payments", "shares");
+    // expenses 컬럼 제약 (title VARCHAR(120) NOT NULL, currency VARCHAR(3) NOT NULL)
+    private static final int MAX_TITLE_LENGTH = 120;
+    private static final int CURRENCY_LENGTH = 3;
+
+    private final ExpenseService expenseService;
+    private final ExpenseRepository expenseRepository;
+    private final TripRepository tripRepository;
+    private final ParticipantRepository participantRepository;
+    private final BalanceLedgerService balanceLedgerService;
+    private final ExpenseRollupService expenseRollupService;
+    private final TripVersionService tripVersionService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    @Value("${expense-import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${expense-import.max-errors:1000}")
+    private int maxErrors;
+
+    // 한 행의 최대 길이 (문자 수) - 넘는 행은 끝까지 버리고 실패로 집계
+    @Value("${expense-import.max-line-length:16384}")
+    private int maxLineLength;
+
+    /**
+     * 요청 형식 판별 (format 파라미터 우선, 없으면 Content-Type)
+     */
+    public static String resolveFormat(String format, String contentType) {
+        String value = format != null ? format : contentType;
+        if (value != null) {
+            String lower = value.toLowerCase(Locale.ROOT);
+            if (lower.contains("csv")) {
+                return FORMAT_CSV;
+            }
+            if (lower.contains("ndjson") || lower.contains("json")) {
+                return FORMAT_NDJSON;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "지원하지 않는 형식입니다 (NDJSON 또는 CSV)");
+    }
+
+    public ExpenseImportResponse importExpenses(Long tripId, String format, InputStream input) throws IOException {
+        if (!tripRepository.existsById(tripId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Trip not found: " + tripId);
+        }
+        // 삭제된 동행자는 제외 - 해당 동행자를 참조하는 행은 실패로 집계
+        Set<Long> tripParticipantIds = new HashSet<>();
+        for (Participant participant : participantRepository.findByTripIdAndDeleteYn(tripId, "N")) {
+            tripParticipantIds.add(participant.getId());
+        }
+
+        ImportState state = new ImportState(tripId, tripParticipantIds);
+        long startedAt = System.nanoTime();
+
+        try (LineReader reader = new LineReader(new InputStreamReader(input, StandardCharsets.UTF_8), maxLineLength)) {
+            Map<String, Integer> csvColumns = null;
+            String line;
+            int lineNo = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (reader.isTruncated()) {
+                    if (FORMAT_CSV.equals(format) && csvColumns == null) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV 헤더가 너무 깁니다");
+                    }
+                    state.totalRows++;
+                    state.fail(lineNo, "행이 너무 깁니다 (최대 " + maxLineLength + "자)");
+                    continue;
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                if (FORMAT_CSV.equals(format) && csvColumns == null) {
+                    csvColumns = readCsvHeader(line);
+                    continue;
+                }
+
+                state.totalRows++;
+                ExpenseRequest request;
+                try {
+                    request = FORMAT_CSV.equals(format) ? parseCsvRow(line, csvColumns) : parseNdjsonRow(line);
+                    validateRow(request, tripParticipantIds);
+                } catch (ResponseStatusException e) {
+                    state.fail(lineNo, e.getReason());
+                    continue;
+                } catch (RuntimeException e) {
+                    state.fail(lineNo, "잘못된 행입니다: " + e.getMessage());
+                    continue;
+                }
+
+                state.pending.add(new PendingRow(lineNo, request));
+                if (state.pending.size() >= chunkSize) {
+                    writeChunk(state);
+                }
+            }
+        }
+        if (!state.pending.isEmpty()) {
+            writeChunk(state);
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("Expense import finished: tripId={}, format={}, total={}, imported={}, failed={}, chunks={}, elapsedMs={}",
+                tripId, format, state.totalRows, state.importedRows, state.failedRows, state.chunks, elapsedMs);
+
+        return ExpenseImportResponse.builder()
+                .tripId(tripId)
+                .format(format)
+                .totalRows(state.totalRows)
+                .importedRows(state.importedRows)
+                .failedRows(state.failedRows)
+                .chunks(state.chunks)
+                .elapsedMs(elapsedMs)
+                .rowsPerSecond(state.importedRows * 1000.0 / elapsedMs)
+                .errors(state.errors)
+                .errorsTruncated(state.failedRows > state.errors.size())
+                .build();
+    }
+
+    /**
+     * chunk 저장 - 실패하면 행 단위로 다시 저장하여 실패한 행만 보고
+     */
+    private void writeChunk(ImportState state) {
+        List<PendingRow> rows = new ArrayList<>(state.pending);
+        state.pending.clear();
+        state.chunks++;
+
+        try {
+            saveRows(state, rows);
+            state.importedRows += rows.size();
+        } catch (RuntimeException e) {
+            log.warn("Expense import chunk failed, retrying row by row: tripId={}, lines={}-{}", state.tripId,
+                    rows.get(0).line(), rows.get(rows.size() - 1).line(), e);
+            entityManager.clear();
+            if (rows.size() == 1) {
+                state.fail(rows.get(0).line(), "저장 실패: " + e.getMessage());
+                return;
+            }
+            for (PendingRow row : rows) {
+                try {
+                    saveRows(state, List.of(row));
+                    state.importedRows++;
+                } catch (RuntimeException rowError) {
+                    log.debug("Expense import row failed: tripId={}, line={}", state.tripId, row.line(), rowError);
+                    entityManager.clear();
+                    state.fail(row.line(), "저장 실패: " + rowError.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 행 저장 (별도 트랜잭션)
+     * - 저장 후 영속성 컨텍스트를 비워 chunk 간 메모리가 누적되지 않도록 함
+     */
+    private void saveRows(ImportState state, List<PendingRow> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Trip trip = tripRepository.getReferenceById(state.tripId);
+            Map<Long, Participant> participants = new HashMap<>();
+            for (Long participantId : state.tripParticipantIds) {
+                participants.put(participantId, participantRepository.getReferenceById(participantId));
+            }
+
+            List<Expense> expenses = new ArrayList<>(rows.size());
+            for (PendingRow row : rows) {
+                expenses.add(expenseService.buildExpense(trip, row.request(), participants));
+            }
+            expenseRepository.saveAll(expenses);
+
+            List<ExpenseSnapshot> snapshots = new ArrayList<>(expenses.size());
+            for (Expense expense : expenses) {
+                snapshots.add(ExpenseSnapshot.of(expense));
+            }
+            balanceLedgerService.applyAdded(state.tripId, snapshots);
+            expenseRollupService.applyAdded(state.tripId, snapshots);
+            tripVersionService.bump(state.tripId);
+
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    /**
+     * 단건 등록과 같은 규칙으로 검증 + 날짜/카테고리/동행자 확인
+     * - expenses 컬럼 제약도 여기서 확인하여 저장 시 제약 위반으로 chunk가 롤백되지 않도록 함
+     */
+    private void validateRow(ExpenseRequest request, Set<Long> tripParticipantIds) {
+        if (request.getTitle() == null || request.getTitle().isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "제목이 필요합니다");
+        }
+        if (request.getTitle().length() > MAX_TITLE_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "제목은 " + MAX_TITLE_LENGTH + "자 이하여야 합니다");
+        }
+        if (request.getCurrency() != null && request.getCurrency().length() != CURRENCY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "통화 코드는 " + CURRENCY_LENGTH + "자여야 합니다");
+        }
+        if (request.getTotalAmount() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "총액이 필요합니다");
+        }
+        if (request.getOccurredAt() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지출 일시가 필요합니다");
+        }
+        if (request.getPayments() != null && request.getPayments().stream().anyMatch(p -> p.getAmount() == null)
+                || request.getShares() != null && request.getShares().stream().anyMatch(s -> s.getAmount() == null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "금액이 필요합니다");
+        }
+        expenseService.validateExpenseRequest(request);
+
+        LocalDateTime.parse(request.getOccurredAt(), dateTimeFormatter);
+        if (request.getCategory() != null) {
+            ExpenseCategory.valueOf(request.getCategory());
+        }
+
+        List<Long> participantIds = new ArrayList<>();
+        request.getPayments().forEach(p -> participantIds.add(p.getParticipantId()));
+        request.getShares().forEach(s -> participantIds.add(s.getParticipantId()));
+        for (Long participantId : participantIds) {
+            if (participantId == null || !tripParticipantIds.contains(participantId)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Participant " + participantId + " does not belong to trip");
+            }
+        }
+    }
+
+    private ExpenseRequest parseNdjsonRow(String line) {
+        try {
+            return objectMapper.readValue(line, ExpenseRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "JSON 파싱 실패: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * CSV 헤더: title,occurredAt,totalAmount,currency,category,payments,shares
+     * - currency, category는 선택
+     * - payments/shares는 "동행자ID:금액" 을 ';'로 구분 (예: 12:30000;13:20000)
+     */
+    private Map<String, Integer> readCsvHeader(String line) {
+        List<String> names = splitCsvLine(line);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim(), i);
+        }
+        for (String required : CSV_REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV 헤더에 " + required + " 컬럼이 필요합니다");
+            }
+        }
+        return columns;
+    }
+
+    private ExpenseRequest parseCsvRow(String line, Map<String, Integer> columns) {
+        List<String> values = splitCsvLine(line);
+
+        ExpenseRequest request = new ExpenseRequest();
+        request.setTitle(csvValue(values, columns, "title"));
+        request.setOccurredAt(csvValue(values, columns, "occurredAt"));
+        String totalAmount = csvValue(values, columns, "totalAmount");
+        request.setTotalAmount(totalAmount != null ? Integer.valueOf(totalAmount) : null);
+        String currency = csvValue(values, columns, "currency");
+        if (currency != null) {
+            request.setCurrency(currency);
+        }
+        String category = csvValue(values, columns, "category");
+        if (category != null) {
+            request.setCategory(category);
+        }
+
+        List<ExpenseRequest.PaymentItem> payments = new ArrayList<>();
+        parseAmounts(csvValue(values, columns, "payments")).forEach((participantId, amount) -> {
+            ExpenseRequest.PaymentItem item = new ExpenseRequest.PaymentItem();
+            item.setParticipantId(participantId);
+            item.setAmount(amount);
+            payments.add(item);
+        });
+        request.setPayments(payments);
+
+        List<ExpenseRequest.ShareItem> shares = new ArrayList<>();
+        parseAmounts(csvValue(values, columns, "shares")).forEach((participantId, amount) -> {
+            ExpenseRequest.ShareItem item = new ExpenseRequest.ShareItem();
+            item.setParticipantId(participantId);
+            item.setAmount(amount);
+            shares.add(item);
+        });
+        request.setShares(shares);
+        return request;
+    }
+
+    private static String csvValue(List<String> values, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Map<Long, Integer> parseAmounts(String value) {
+        Map<Long, Integer> amounts = new LinkedHashMap<>();
+        if (value == null) {
+            return amounts;
+        }
+        for (String pair : value.split(";")) {
+            if (pair.isBlank()) {
+                continue;
+            }
+            String[] parts = pair.split(":");
+            if (parts.length != 2) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "동행자ID:금액 형식이 아닙니다: " + pair);
+            }
+            amounts.merge(Long.valueOf(parts[0].trim()), Integer.valueOf(parts[1].trim()), Integer::sum);
+        }
+        return amounts;
+    }
+
+    /**
+     * 한 줄 CSV 분리 (따옴표 필드, "" 이스케이프 지원 / 필드 내 줄바꿈은 미지원)
+     */
+    private static List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private record PendingRow(int line, ExpenseRequest request) {
+    }
+
+    /**
+     * 길이 제한이 있는 줄 단위 읽기 (\n, \r\n 구분)
+     * - 최대 길이를 넘는 줄은 줄 끝까지 버리고 truncated로 표시하여 한 행이 메모리를 무한정 점유하지 않도록 함
+     */
+    static final class LineReader implements Closeable {
+
+        private final Reader reader;
+        private final int maxLength;
+        private final StringBuilder line = new StringBuilder();
+        private boolean truncated;
+
+        LineReader(Reader reader, int maxLength) {
+            this.reader = new BufferedReader(reader);
+            this.maxLength = maxLength;
+        }
+
+        String readLine() throws IOException {
+            line.setLength(0);
+            truncated = false;
+            int c;
+            boolean read = false;
+            while ((c = reader.read()) != -1) {
+                read = true;
+                if (c == '\n') {
+                    break;
+                }
+                if (line.length() < maxLength + 1) {
+                    line.append((char) c);
+                } else {
+                    truncated = true;
+                }
+            }
+            if (!read) {
+                return null;
+            }
+            if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+                line.setLength(line.length() - 1);
+            }
+            if (line.length() > maxLength) {
+                truncated = true;
+            }
+            return truncated ? "" : line.toString();
+        }
+
+        boolean isTruncated() {
+            return truncated;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private class ImportState {
+        final Long tripId;
+        final Set<Long> tripParticipantIds;
+        final List<PendingRow> pending = new ArrayList<>();
+        final List<ExpenseImportResponse.RowError> errors = new ArrayList<>();
+        int totalRows;
+        int importedRows;
+        int failedRows;
+        int chunks;
+
+        ImportState(Long tripId, Set<Long> tripParticipantIds) {
+            this.tripId = tripId;
+            this.tripParticipantIds = tripParticipantIds;
+        }
+
+        void fail(int line, String message) {
+            failedRows++;
+            if (errors.size() < maxErrors) {
+                errors.add(ExpenseImportResponse.RowError.builder().line(line).message(message).build());
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.whdgkr.tripsplite.service;
+
+import com.whdgkr.tripsplite.repository.TripRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 통계 집계 전체 재생성 (백그라운드)
+ * - 활성 여행마다 별도 트랜잭션으로 재생성, 동시에 하나만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpenseRollupRebuildJob {
+
+    private final TripRepository tripRepository;
+    private final ExpenseRollupService expenseRollupService;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "rollup-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * @return 새로 시작했으면 true, 이미 실행 중이면 false
+     */
+    public boolean startRebuildAll() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        executor.execute(() -> {
+            try {
+                rebuildAll();
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private void rebuildAll() {
+        long startedAt = System.currentTimeMillis();
+        List<Long> tripIds = tripRepository.findIdsByDeleteYn("N");
+
+        int failed = 0;
+        long rows = 0;
+        for (Long tripId : tripIds) {
+            try {
+                rows += expenseRollupService.rebuildTrip(tripId);
+            } catch (RuntimeException e) {
+                failed++;
+                log.warn("Rollup rebuild failed: tripId={}", tripId, e);
+            }
+        }
+
+        log.info("Rollup rebuild finished: trips={}, failedTrips={}, rows={}, elapsedMs={}",
+                tripIds.size(), failed, rows, System.currentTimeMillis() - startedAt);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
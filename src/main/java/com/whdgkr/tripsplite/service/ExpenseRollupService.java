@@ -0,0 +1,150 @@
+package com.whdgkr.tripsplite.service;
+
+import com.whdgkr.tripsplite.entity.ExpenseCategory;
+import com.whdgkr.tripsplite.entity.TripExpenseRollup;
+import com.whdgkr.tripsplite.repository.TripExpenseRollupRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 여행 통계 사전 집계 관리
+ * - 지출 변경 트랜잭션 안에서 변경 전/후 스냅샷 차이만큼 (카테고리, 일자, 동행자) 행을 가산
+ * - 삭제/정산완료 전환도 같은 방식으로 건수와 미정산 합계가 조정됨
+ * - 원본 기준 재생성으로 오차 복구
+ * - 키별 증분은 다중 행 upsert 한 문장으로 반영 (키 순서로 잠금)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExpenseRollupService {
+
+    private static final int AMOUNT = 0;
+    private static final int COUNT = 1;
+    private static final int UNSETTLED_AMOUNT = 2;
+    private static final int UNSETTLED_COUNT = 3;
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+    private static final Comparator<RollupKey> KEY_ORDER = Comparator.comparing(RollupKey::category)
+            .thenComparing(RollupKey::expenseDate)
+            .thenComparing(RollupKey::participantId);
+
+    private final TripExpenseRollupRepository rollupRepository;
+    private final TripVersionService tripVersionService;
+    private final EntityManager entityManager;
+
+    @Transactional
+    public void applyChange(Long tripId, ExpenseSnapshot before, ExpenseSnapshot after) {
+        Map<RollupKey, long[]> deltas = new HashMap<>();
+        accumulate(deltas, before, -1);
+        accumulate(deltas, after, 1);
+        writeDeltas(tripId, deltas);
+    }
+
+    /**
+     * 신규 지출 여러 건을 키별로 합산하여 한 번씩만 반영 (일괄 등록용)
+     */
+    @Transactional
+    public void applyAdded(Long tripId, List<ExpenseSnapshot> added) {
+        Map<RollupKey, long[]> deltas = new HashMap<>();
+        for (ExpenseSnapshot snapshot : added) {
+            accumulate(deltas, snapshot, 1);
+        }
+        writeDeltas(tripId, deltas);
+    }
+
+    /**
+     * 원본 데이터로 여행의 집계 행을 다시 생성
+     * - 여행 버전을 먼저 증가시켜 같은 여행의 동시 변경과 직렬화 (통계 캐시도 함께 무효화)
+     * @return 생성된 행 수
+     */
+    @Transactional
+    public int rebuildTrip(Long tripId) {
+        tripVersionService.bump(tripId);
+        rollupRepository.deleteByTripId(tripId);
+        int rows = rollupRepository.rebuildExpenseRows(tripId) + rollupRepository.rebuildShareRows(tripId);
+        log.debug("Rollup rebuilt: tripId={}, rows={}", tripId, rows);
+        return rows;
+    }
+
+    /**
+     * 집계 증분 반영 (행이 없으면 생성, 있으면 원자적으로 가산)
+     * - 변경 없는 키는 제외, 나머지는 MAX_ROWS_PER_STATEMENT 행씩 한 문장으로 전송
+     */
+    private void writeDeltas(Long tripId, Map<RollupKey, long[]> deltas) {
+        List<Map.Entry<RollupKey, long[]>> rows = new ArrayList<>();
+        Map<RollupKey, long[]> sorted = new TreeMap<>(KEY_ORDER);
+        sorted.putAll(deltas);
+        sorted.forEach((key, d) -> {
+            if (d[AMOUNT] != 0 || d[COUNT] != 0 || d[UNSETTLED_AMOUNT] != 0 || d[UNSETTLED_COUNT] != 0) {
+                rows.add(Map.entry(key, d));
+            }
+        });
+
+        for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<Map.Entry<RollupKey, long[]>> chunk = rows.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, rows.size()));
+            Query query = entityManager.createNativeQuery(upsertSql(chunk.size()));
+            int position = 1;
+            for (Map.Entry<RollupKey, long[]> row : chunk) {
+                RollupKey key = row.getKey();
+                long[] d = row.getValue();
+                query.setParameter(position++, tripId);
+                query.setParameter(position++, key.category().name());
+                query.setParameter(position++, key.expenseDate());
+                query.setParameter(position++, key.participantId());
+                query.setParameter(position++, d[AMOUNT]);
+                query.setParameter(position++, d[COUNT]);
+                query.setParameter(position++, d[UNSETTLED_AMOUNT]);
+                query.setParameter(position++, d[UNSETTLED_COUNT]);
+            }
+            query.executeUpdate();
+        }
+    }
+
+    private static String upsertSql(int rows) {
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < rows; i++) {
+            values.add("(?, ?, ?, ?, ?, ?, ?, ?, NOW(3))");
+        }
+        return "INSERT INTO trip_expense_rollups " +
+                "(trip_id, category, expense_date, participant_id, amount, expense_count, unsettled_amount, unsettled_count, updated_at) " +
+                "VALUES " + values + " " +
+                "ON DUPLICATE KEY UPDATE " +
+                "amount = amount + VALUES(amount), " +
+                "expense_count = expense_count + VALUES(expense_count), " +
+                "unsettled_amount = unsettled_amount + VALUES(unsettled_amount), " +
+                "unsettled_count = unsettled_count + VALUES(unsettled_count), " +
+                "updated_at = VALUES(updated_at)";
+    }
+
+    private void accumulate(Map<RollupKey, long[]> target, ExpenseSnapshot snapshot, int sign) {
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        boolean unsettled = !snapshot.isSettled();
+
+        add(target, new RollupKey(snapshot.getCategory(), snapshot.getExpenseDate(), TripExpenseRollup.EXPENSE_LEVEL),
+                snapshot.getTotalAmount(), unsettled, sign);
+        snapshot.getShareByParticipant().forEach((participantId, amount) ->
+                add(target, new RollupKey(snapshot.getCategory(), snapshot.getExpenseDate(), participantId),
+                        amount, unsettled, sign));
+    }
+
+    private void add(Map<RollupKey, long[]> target, RollupKey key, long amount, boolean unsettled, int sign) {
+        long[] d = target.computeIfAbsent(key, k -> new long[4]);
+        d[AMOUNT] += sign * amount;
+        d[COUNT] += sign;
+        if (unsettled) {
+            d[UNSETTLED_AMOUNT] += sign * amount;
+            d[UNSETTLED_COUNT] += sign;
+        }
+    }
+
+    private record RollupKey(ExpenseCategory category, LocalDate expenseDate, Long participantId) {
+    }
+}
@@ -1,18 +1,29 @@
 package com.whdgkr.tripsplite.service;
 
+import com.whdgkr.tripsplite.dto.CursorPageResponse;
 import com.whdgkr.tripsplite.dto.ExpenseRequest;
 import com.whdgkr.tripsplite.dto.ExpenseResponse;
+import com.whdgkr.tripsplite.dto.ExpenseSearchRequest;
 import com.whdgkr.tripsplite.entity.*;
 import com.whdgkr.tripsplite.repository.*;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
@@ -22,9 +33,19 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ExpenseService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final LocalDateTime MAX_CURSOR_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     private final ExpenseRepository expenseRepository;
     private final TripRepository tripRepository;
     private final ParticipantRepository participantRepository;
+    private final ExpensePaymentRepository expensePaymentRepository;
+    private final ExpenseShareRepository expenseShareRepository;
+    private final BalanceLedgerService balanceLedgerService;
+    private final ExpenseRollupService expenseRollupService;
+    private final TripVersionService tripVersionService;
+    private final MeterRegistry meterRegistry;
     private final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
     @Transactional(readOnly = true)
@@ -34,51 +55,98 @@ public class ExpenseService {
                 .collect(Collectors.toList());
     }
 
-    @Transactional
-    public ExpenseResponse createExpense(Long tripId, ExpenseRequest request) {
-        validateExpenseRequest(request);
-
-        Trip trip = tripRepository.findById(tripId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Trip not found: " + tripId));
+    /**
+     * 지출 목록 검색 (occurred_at, id 내림차순 keyset 페이지)
+     * - 페이지당 쿼리 3회 (지출, 결제, 분배) - 여행의 전체 지출 수와 무관
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ExpenseResponse> searchExpenses(Long tripId, ExpenseSearchRequest request) {
+        if (!tripRepository.existsById(tripId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Trip not found: " + tripId);
+        }
 
-        Expense expense = Expense.builder()
-                .trip(trip)
-                .title(request.getTitle())
-                .occurredAt(LocalDateTime.parse(request.getOccurredAt(), dateTimeFormatter))
-                .totalAmount(request.getTotalAmount())
-                .currency(request.getCurrency() != null ? request.getCurrency() : "KRW")
-                .category(request.getCategory() != null ? ExpenseCategory.valueOf(request.getCategory()) : ExpenseCategory.OTHER)
-                .build();
+        int pageSize = request.getSize() == null || request.getSize() <= 0
+                ? DEFAULT_PAGE_SIZE : Math.min(request.getSize(), MAX_PAGE_SIZE);
+
+        LocalDateTime cursorAt = MAX_CURSOR_AT;
+        long cursorId = Long.MAX_VALUE;
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            try {
+                String[] parts = request.getCursor().split("_", 2);
+                cursorAt = LocalDateTime.parse(parts[0], dateTimeFormatter);
+                cursorId = Long.parseLong(parts[1]);
+            } catch (RuntimeException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor: " + request.getCursor());
+            }
+        }
 
-        Expense savedExpense = expenseRepository.save(expense);
+        ExpenseCategory category = null;
+        LocalDateTime fromAt = null;
+        LocalDateTime toAt = null;
+        try {
+            if (request.getCategory() != null && !request.getCategory().isBlank()) {
+                category = ExpenseCategory.valueOf(request.getCategory());
+            }
+            if (request.getFrom() != null && !request.getFrom().isBlank()) {
+                fromAt = LocalDate.parse(request.getFrom()).atStartOfDay();
+            }
+            if (request.getTo() != null && !request.getTo().isBlank()) {
+                toAt = LocalDate.parse(request.getTo()).plusDays(1).atStartOfDay();
+            }
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid search condition: " + e.getMessage());
+        }
 
-        // Save payments
-        for (ExpenseRequest.PaymentItem payment : request.getPayments()) {
-            Participant participant = participantRepository.findById(payment.getParticipantId())
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Participant not found: " + payment.getParticipantId()));
+        String settledYn = request.getSettledYn();
+        if (settledYn != null && !settledYn.equals("Y") && !settledYn.equals("N")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "settledYn must be Y or N");
+        }
 
-            ExpensePayment expensePayment = ExpensePayment.builder()
-                    .expense(savedExpense)
-                    .participant(participant)
-                    .amount(payment.getAmount())
-                    .build();
-            savedExpense.getPayments().add(expensePayment);
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Expense> expenses = expenseRepository.search(tripId, category, settledYn, fromAt, toAt,
+                request.getParticipantId(), cursorAt, cursorId, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = expenses.size() > pageSize;
+        if (hasNext) {
+            expenses = expenses.subList(0, pageSize);
         }
 
-        // Save shares
-        for (ExpenseRequest.ShareItem share : request.getShares()) {
-            Participant participant = participantRepository.findById(share.getParticipantId())
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Participant not found: " + share.getParticipantId()));
+        List<ExpenseResponse> items = new ArrayList<>();
+        if (!expenses.isEmpty()) {
+            List<Long> expenseIds = expenses.stream().map(Expense::getId).toList();
+            Map<Long, List<ExpensePayment>> paymentsByExpense = expensePaymentRepository.findActiveByExpenseIdIn(expenseIds).stream()
+                    .collect(Collectors.groupingBy(p -> p.getExpense().getId()));
+            Map<Long, List<ExpenseShare>> sharesByExpense = expenseShareRepository.findActiveByExpenseIdIn(expenseIds).stream()
+                    .collect(Collectors.groupingBy(s -> s.getExpense().getId()));
+            for (Expense expense : expenses) {
+                items.add(toResponse(expense,
+                        paymentsByExpense.getOrDefault(expense.getId(), List.of()),
+                        sharesByExpense.getOrDefault(expense.getId(), List.of())));
+            }
+        }
 
-            ExpenseShare expenseShare = ExpenseShare.builder()
-                    .expense(savedExpense)
-                    .participant(participant)
-                    .amount(share.getAmount())
-                    .build();
-            savedExpense.getShares().add(expenseShare);
+        String nextCursor = null;
+        if (hasNext) {
+            Expense last = expenses.get(expenses.size() - 1);
+            nextCursor = last.getOccurredAt().format(dateTimeFormatter) + "_" + last.getId();
         }
 
-        Expense result = expenseRepository.save(savedExpense);
+        return CursorPageResponse.<ExpenseResponse>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Transactional
+    public ExpenseResponse createExpense(Long tripId, ExpenseRequest request) {
+        validateExpenseRequest(request);
+
+        Trip trip = tripRepository.findById(tripId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Trip not found: " + tripId));
+        Map<Long, Participant> participants = resolveParticipants(tripId, request);
+
+        Expense result = expenseRepository.save(buildExpense(trip, request, participants));
+        afterChange(tripId, ExpenseSnapshot.empty(), ExpenseSnapshot.of(result));
         return toResponse(result);
     }
 
@@ -88,6 +156,8 @@ public class ExpenseService {
 
         Expense expense = expenseRepository.findById(expenseId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Expense not found: " + expenseId));
+        Map<Long, Participant> participants = resolveParticipants(expense.getTrip().getId(), request);
+        ExpenseSnapshot before = ExpenseSnapshot.of(expense);
 
         expense.setTitle(request.getTitle());
         expense.setOccurredAt(LocalDateTime.parse(request.getOccurredAt(), dateTimeFormatter));
@@ -95,53 +165,195 @@ public class ExpenseService {
         expense.setCurrency(request.getCurrency() != null ? request.getCurrency() : "KRW");
         expense.setCategory(request.getCategory() != null ? ExpenseCategory.valueOf(request.getCategory()) : ExpenseCategory.OTHER);
 
-        // Soft delete existing payments and shares
+        // 기존 활성 결제/분배와 비교하여 변경분만 반영 (금액 수정, 신규 추가, 제외된 동행자만 soft delete)
+        RowChurn paymentChurn = reconcilePayments(expense, request.getPayments(), participants);
+        RowChurn shareChurn = reconcileShares(expense, request.getShares(), participants);
+        recordChurn("payment", paymentChurn);
+        recordChurn("share", shareChurn);
+        log.debug("Expense {} reconciled: payments={}, shares={}", expenseId, paymentChurn, shareChurn);
+
+        Expense result = expenseRepository.save(expense);
+        afterChange(result.getTrip().getId(), before, ExpenseSnapshot.of(result));
+        return toResponse(result);
+    }
+
+    @Transactional
+    public void deleteExpense(Long expenseId) {
+        Expense expense = expenseRepository.findById(expenseId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Expense not found: " + expenseId));
+        ExpenseSnapshot before = ExpenseSnapshot.of(expense);
+
+        expense.setDeleteYn("Y");
         expense.getPayments().forEach(p -> p.setDeleteYn("Y"));
         expense.getShares().forEach(s -> s.setDeleteYn("Y"));
+        expenseRepository.save(expense);
+        afterChange(expense.getTrip().getId(), before, ExpenseSnapshot.empty());
+    }
+
+    /**
+     * 요청에 포함된 동행자를 한 번의 쿼리로 조회
+     * - 존재하지 않으면 404, 다른 여행의 동행자면 400
+     */
+    private Map<Long, Participant> resolveParticipants(Long tripId, ExpenseRequest request) {
+        Set<Long> ids = new HashSet<>();
+        request.getPayments().forEach(item -> ids.add(item.getParticipantId()));
+        request.getShares().forEach(item -> ids.add(item.getParticipantId()));
+        if (ids.contains(null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Participant id is required");
+        }
 
-        // Add new payments
-        for (ExpenseRequest.PaymentItem payment : request.getPayments()) {
-            Participant participant = participantRepository.findById(payment.getParticipantId())
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Participant not found: " + payment.getParticipantId()));
+        Map<Long, Participant> participants = new HashMap<>();
+        for (Participant participant : participantRepository.findAllById(ids)) {
+            participants.put(participant.getId(), participant);
+        }
 
-            ExpensePayment expensePayment = ExpensePayment.builder()
+        for (Long id : ids) {
+            Participant participant = participants.get(id);
+            if (participant == null) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Participant not found: " + id);
+            }
+            if (!tripId.equals(participant.getTrip().getId())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Participant " + id + " does not belong to trip " + tripId);
+            }
+        }
+        return participants;
+    }
+
+    private RowChurn reconcilePayments(Expense expense, List<ExpenseRequest.PaymentItem> items,
+                                       Map<Long, Participant> participants) {
+        Map<Long, Integer> requested = paymentAmounts(items);
+
+        RowChurn churn = new RowChurn();
+        for (ExpensePayment payment : expense.getPayments()) {
+            if (!payment.isActive()) {
+                continue;
+            }
+            // 동일 동행자의 중복 행은 첫 행만 유지
+            Integer amount = requested.remove(payment.getParticipant().getId());
+            if (amount == null) {
+                payment.setDeleteYn("Y");
+                churn.deleted++;
+            } else if (!amount.equals(payment.getAmount())) {
+                payment.setAmount(amount);
+                churn.updated++;
+            } else {
+                churn.unchanged++;
+            }
+        }
+
+        requested.forEach((participantId, amount) -> {
+            Participant participant = participants.get(participantId);
+            expense.getPayments().add(ExpensePayment.builder()
                     .expense(expense)
                     .participant(participant)
-                    .amount(payment.getAmount())
-                    .build();
-            expense.getPayments().add(expensePayment);
-        }
+                    .amount(amount)
+                    .build());
+            churn.inserted++;
+        });
+        return churn;
+    }
 
-        // Add new shares
-        for (ExpenseRequest.ShareItem share : request.getShares()) {
-            Participant participant = participantRepository.findById(share.getParticipantId())
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Participant not found: " + share.getParticipantId()));
+    private RowChurn reconcileShares(Expense expense, List<ExpenseRequest.ShareItem> items,
+                                     Map<Long, Participant> participants) {
+        Map<Long, Integer> requested = shareAmounts(items);
+
+        RowChurn churn = new RowChurn();
+        for (ExpenseShare share : expense.getShares()) {
+            if (!share.isActive()) {
+                continue;
+            }
+            // 동일 동행자의 중복 행은 첫 행만 유지
+            Integer amount = requested.remove(share.getParticipant().getId());
+            if (amount == null) {
+                share.setDeleteYn("Y");
+                churn.deleted++;
+            } else if (!amount.equals(share.getAmount())) {
+                share.setAmount(amount);
+                churn.updated++;
+            } else {
+                churn.unchanged++;
+            }
+        }
 
-            ExpenseShare expenseShare = ExpenseShare.builder()
+        requested.forEach((participantId, amount) -> {
+            Participant participant = participants.get(participantId);
+            expense.getShares().add(ExpenseShare.builder()
                     .expense(expense)
                     .participant(participant)
-                    .amount(share.getAmount())
-                    .build();
-            expense.getShares().add(expenseShare);
+                    .amount(amount)
+                    .build());
+            churn.inserted++;
+        });
+        return churn;
+    }
+
+    // 동행자별 금액 합산 (요청 순서 유지)
+    private static Map<Long, Integer> paymentAmounts(List<ExpenseRequest.PaymentItem> items) {
+        Map<Long, Integer> amounts = new LinkedHashMap<>();
+        for (ExpenseRequest.PaymentItem item : items) {
+            amounts.merge(item.getParticipantId(), item.getAmount(), Integer::sum);
         }
+        return amounts;
+    }
 
-        Expense result = expenseRepository.save(expense);
-        return toResponse(result);
+    private static Map<Long, Integer> shareAmounts(List<ExpenseRequest.ShareItem> items) {
+        Map<Long, Integer> amounts = new LinkedHashMap<>();
+        for (ExpenseRequest.ShareItem item : items) {
+            amounts.merge(item.getParticipantId(), item.getAmount(), Integer::sum);
+        }
+        return amounts;
     }
 
-    @Transactional
-    public void deleteExpense(Long expenseId) {
-        Expense expense = expenseRepository.findById(expenseId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Expense not found: " + expenseId));
+    private void recordChurn(String kind, RowChurn churn) {
+        meterRegistry.counter("expense.update.rows", "kind", kind, "op", "inserted").increment(churn.inserted);
+        meterRegistry.counter("expense.update.rows", "kind", kind, "op", "updated").increment(churn.updated);
+        meterRegistry.counter("expense.update.rows", "kind", kind, "op", "deleted").increment(churn.deleted);
+        meterRegistry.counter("expense.update.rows", "kind", kind, "op", "unchanged").increment(churn.unchanged);
+        meterRegistry.summary("expense.update.churn", "kind", kind).record(churn.inserted + churn.updated + churn.deleted);
+    }
 
-        expense.setDeleteYn("Y");
-        expense.getPayments().forEach(p -> p.setDeleteYn("Y"));
-        expense.getShares().forEach(s -> s.setDeleteYn("Y"));
-        expenseRepository.save(expense);
+    /**
+     * 지출 변경 후처리 (같은 트랜잭션)
+     * - 정산 원장 + 통계 집계 반영 + 여행 버전 증가
+     */
+    private void afterChange(Long tripId, ExpenseSnapshot before, ExpenseSnapshot after) {
+        balanceLedgerService.applyChange(tripId, before, after);
+        expenseRollupService.applyChange(tripId, before, after);
+        tripVersionService.bump(tripId);
+    }
+
+    /**
+     * 검증된 요청으로 지출 엔티티 생성 (결제/분배는 cascade로 함께 저장)
+     * - 같은 동행자가 여러 번 오면 금액을 합산하여 한 행으로 저장 (수정 시 reconcile과 같은 규칙)
+     */
+    public Expense buildExpense(Trip trip, ExpenseRequest request, Map<Long, Participant> participants) {
+        Expense expense = Expense.builder()
+                .trip(trip)
+                .title(request.getTitle())
+                .occurredAt(LocalDateTime.parse(request.getOccurredAt(), dateTimeFormatter))
+                .totalAmount(request.getTotalAmount())
+                .currency(request.getCurrency() != null ? request.getCurrency() : "KRW")
+                .category(request.getCategory() != null ? ExpenseCategory.valueOf(request.getCategory()) : ExpenseCategory.OTHER)
+                .build();
+
+        paymentAmounts(request.getPayments()).forEach((participantId, amount) ->
+                expense.getPayments().add(ExpensePayment.builder()
+                        .expense(expense)
+                        .participant(participants.get(participantId))
+                        .amount(amount)
+                        .build()));
+
+        shareAmounts(request.getShares()).forEach((participantId, amount) ->
+                expense.getShares().add(ExpenseShare.builder()
+                        .expense(expense)
+                        .participant(participants.get(participantId))
+                        .amount(amount)
+                        .build()));
+        return expense;
     }
 
-    private void validateExpenseRequest(ExpenseRequest request) {
-        log.info("Validating expense request: title={}, totalAmount={}", request.getTitle(), request.getTotalAmount());
+    public void validateExpenseRequest(ExpenseRequest request) {
+        log.debug("Validating expense request: title={}, totalAmount={}", request.getTitle(), request.getTotalAmount());
 
         if (request.getPayments() == null || request.getPayments().isEmpty()) {
             log.warn("Validation failed: no payments provided");
@@ -161,7 +373,7 @@ public class ExpenseService {
                 .mapToInt(ExpenseRequest.ShareItem::getAmount)
                 .sum();
 
-        log.info("Validation sums: paymentSum={}, shareSum={}, totalAmount={}", paymentSum, shareSum, request.getTotalAmount());
+        log.debug("Validation sums: paymentSum={}, shareSum={}, totalAmount={}", paymentSum, shareSum, request.getTotalAmount());
 
         if (paymentSum != request.getTotalAmount()) {
             log.warn("Validation failed: payment sum ({}) != total amount ({})", paymentSum, request.getTotalAmount());
@@ -175,12 +387,18 @@ public class ExpenseService {
                     "분배 금액 합계(" + shareSum + ")가 총액(" + request.getTotalAmount() + ")과 일치하지 않습니다");
         }
 
-        log.info("Expense request validation passed");
+        log.debug("Expense request validation passed");
     }
 
     private ExpenseResponse toResponse(Expense expense) {
-        List<ExpenseResponse.PaymentDetail> payments = expense.getPayments().stream()
-                .filter(p -> "N".equals(p.getDeleteYn()))
+        return toResponse(expense,
+                expense.getPayments().stream().filter(p -> "N".equals(p.getDeleteYn())).toList(),
+                expense.getShares().stream().filter(s -> "N".equals(s.getDeleteYn())).toList());
+    }
+
+    private ExpenseResponse toResponse(Expense expense, List<ExpensePayment> activePayments,
+                                       List<ExpenseShare> activeShares) {
+        List<ExpenseResponse.PaymentDetail> payments = activePayments.stream()
                 .map(p -> ExpenseResponse.PaymentDetail.builder()
                         .participantId(p.getParticipant().getId())
                         .participantName(p.getParticipant().getName())
@@ -188,8 +406,7 @@ public class ExpenseService {
                         .build())
                 .collect(Collectors.toList());
 
-        List<ExpenseResponse.ShareDetail> shares = expense.getShares().stream()
-                .filter(s -> "N".equals(s.getDeleteYn()))
+        List<ExpenseResponse.ShareDetail> shares = activeShares.stream()
                 .map(s -> ExpenseResponse.ShareDetail.builder()
                         .participantId(s.getParticipant().getId())
                         .participantName(s.getParticipant().getName())
@@ -220,11 +437,26 @@ public class ExpenseService {
         if (expense.isDeleted()) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Expense not found: " + expenseId);
         }
+        ExpenseSnapshot before = ExpenseSnapshot.of(expense);
 
         expense.setSettledYn(settled ? "Y" : "N");
         expense.setSettledAt(settled ? LocalDateTime.now() : null);
 
         Expense result = expenseRepository.save(expense);
+        afterChange(result.getTrip().getId(), before, ExpenseSnapshot.of(result));
         return toResponse(result);
     }
+
+    // 지출 수정 1회당 결제/분배 행 변경 건수
+    private static class RowChurn {
+        int inserted;
+        int updated;
+        int deleted;
+        int unchanged;
+
+        @Override
+        public String toString() {
+            return "inserted=" + inserted + ", updated=" + updated + ", deleted=" + deleted + ", unchanged=" + unchanged;
+        }
+    }
 }
@@ -0,0 +1,74 @@
+package com.whdgkr.tripsplite.service;
+
+import com.whdgkr.tripsplite.entity.Expense;
+import com.whdgkr.tripsplite.entity.ExpenseCategory;
+import com.whdgkr.tripsplite.entity.ExpensePayment;
+import com.whdgkr.tripsplite.entity.ExpenseShare;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 지출 변경 전/후 상태 스냅샷
+ * - 정산 원장에 반영되는 동행자별 결제/분배 금액을 보관
+ * - 통계 집계용 카테고리/일자/총액 보관
+ * - 삭제된 지출은 아무 금액도 기여하지 않음
+ */
+@Getter
+public class ExpenseSnapshot {
+
+    private static final ExpenseSnapshot EMPTY = new ExpenseSnapshot(false, null, null, 0L,
+            Collections.emptyMap(), Collections.emptyMap());
+
+    private final boolean settled;
+    private final ExpenseCategory category;
+    private final LocalDate expenseDate;
+    private final long totalAmount;
+    private final Map<Long, Long> paidByParticipant;
+    private final Map<Long, Long> shareByParticipant;
+
+    private ExpenseSnapshot(boolean settled, ExpenseCategory category, LocalDate expenseDate, long totalAmount,
+                            Map<Long, Long> paidByParticipant, Map<Long, Long> shareByParticipant) {
+        this.settled = settled;
+        this.category = category;
+        this.expenseDate = expenseDate;
+        this.totalAmount = totalAmount;
+        this.paidByParticipant = paidByParticipant;
+        this.shareByParticipant = shareByParticipant;
+    }
+
+    public static ExpenseSnapshot empty() {
+        return EMPTY;
+    }
+
+    public static ExpenseSnapshot of(Expense expense) {
+        if (expense.isDeleted()) {
+            return EMPTY;
+        }
+
+        Map<Long, Long> paid = new HashMap<>();
+        for (ExpensePayment payment : expense.getPayments()) {
+            if (payment.isActive()) {
+                paid.merge(payment.getParticipant().getId(), payment.getAmount().longValue(), Long::sum);
+            }
+        }
+
+        Map<Long, Long> share = new HashMap<>();
+        for (ExpenseShare expenseShare : expense.getShares()) {
+            if (expenseShare.isActive()) {
+                share.merge(expenseShare.getParticipant().getId(), expenseShare.getAmount().longValue(), Long::sum);
+            }
+        }
+
+        return new ExpenseSnapshot(expense.isSettled(), expense.getCategory(), expense.getOccurredAt().toLocalDate(),
+                expense.getTotalAmount().longValue(), paid, share);
+    }
+
+    // 삭제되었거나 존재하지 않는 지출 여부
+    public boolean isEmpty() {
+        return this == EMPTY;
+    }
+}
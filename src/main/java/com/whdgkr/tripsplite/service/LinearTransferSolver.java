@@ -0,0 +1,164 @@
+package com.whdgkr.tripsplite.service;
+
+import java.util.Arrays;
+
+/**
+ * 대규모 그룹용 송금 계산 (동행자 수백~수천 명)
+ * - 동행자 인덱스 -> 잔액 원시 배열만 사용하고 한 번 정렬한 뒤 투 포인터로 선형 매칭
+ * - maxTransfersPerParticipant > 0이면 한도에 도달한 동행자는 뒤로 미뤘다가
+ *   나머지 잔액만 마지막에 한도 없이 정리 (합계 보존이 우선이므로 한도는 best-effort)
+ */
+final class LinearTransferSolver {
+
+    private LinearTransferSolver() {
+    }
+
+    /**
+     * @param balances 동행자 인덱스별 순잔액 (양수: 받을 돈, 음수: 보낼 돈)
+     */
+    static Result solve(long[] balances, int maxTransfersPerParticipant) {
+        int n = balances.length;
+        int[] creditors = sortedByAmountDesc(balances, 1);
+        int[] debtors = sortedByAmountDesc(balances, -1);
+
+        long[] remaining = new long[n];
+        for (int k = 0; k < n; k++) {
+            remaining[k] = Math.abs(balances[k]);
+        }
+        int[] counts = new int[n];
+        Result result = new Result(creditors.length + debtors.length);
+
+        int[] deferredCreditors = new int[creditors.length];
+        int[] deferredDebtors = new int[debtors.length];
+        int deferredCreditorCount = 0;
+        int deferredDebtorCount = 0;
+
+        int i = 0;
+        int j = 0;
+        while (i < creditors.length && j < debtors.length) {
+            int creditor = creditors[i];
+            int debtor = debtors[j];
+            long amount = Math.min(remaining[creditor], remaining[debtor]);
+
+            result.add(debtor, creditor, amount);
+            remaining[creditor] -= amount;
+            remaining[debtor] -= amount;
+            counts[creditor]++;
+            counts[debtor]++;
+
+            if (remaining[creditor] == 0) {
+                i++;
+            } else if (maxTransfersPerParticipant > 0 && counts[creditor] >= maxTransfersPerParticipant) {
+                deferredCreditors[deferredCreditorCount++] = creditor;
+                i++;
+            }
+            if (remaining[debtor] == 0) {
+                j++;
+            } else if (maxTransfersPerParticipant > 0 && counts[debtor] >= maxTransfersPerParticipant) {
+                deferredDebtors[deferredDebtorCount++] = debtor;
+                j++;
+            }
+        }
+
+        // 한도 때문에 미룬 동행자 + 매칭되지 않은 나머지를 한도 없이 정리
+        if (deferredCreditorCount > 0 || deferredDebtorCount > 0) {
+            int[] restCreditors = concat(deferredCreditors, deferredCreditorCount, creditors, i);
+            int[] restDebtors = concat(deferredDebtors, deferredDebtorCount, debtors, j);
+            int a = 0;
+            int b = 0;
+            while (a < restCreditors.length && b < restDebtors.length) {
+                int creditor = restCreditors[a];
+                int debtor = restDebtors[b];
+                long amount = Math.min(remaining[creditor], remaining[debtor]);
+                if (amount > 0) {
+                    result.add(debtor, creditor, amount);
+                    remaining[creditor] -= amount;
+                    remaining[debtor] -= amount;
+                    counts[creditor]++;
+                    counts[debtor]++;
+                }
+                if (remaining[creditor] == 0) {
+                    a++;
+                }
+                if (remaining[debtor] == 0) {
+                    b++;
+                }
+            }
+        }
+
+        if (maxTransfersPerParticipant > 0) {
+            for (int k = 0; k < n; k++) {
+                if (counts[k] > maxTransfersPerParticipant) {
+                    result.capExceeded++;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * sign 방향 잔액을 가진 인덱스를 금액 내림차순으로 반환
+     * - (금액 << 32 | 인덱스)를 long 하나로 묶어 원시 정렬 (Comparator/박싱 없음)
+     */
+    private static int[] sortedByAmountDesc(long[] balances, int sign) {
+        int count = 0;
+        for (long balance : balances) {
+            if (balance * sign > 0) {
+                count++;
+            }
+        }
+
+        long[] keys = new long[count];
+        int k = 0;
+        for (int index = 0; index < balances.length; index++) {
+            long amount = balances[index] * sign;
+            if (amount > 0) {
+                keys[k++] = (amount << 32) | index;
+            }
+        }
+        Arrays.sort(keys);
+
+        int[] indices = new int[count];
+        for (int m = 0; m < count; m++) {
+            indices[m] = (int) keys[count - 1 - m];
+        }
+        return indices;
+    }
+
+    private static int[] concat(int[] first, int firstLength, int[] second, int secondFrom) {
+        int[] merged = new int[firstLength + Math.max(0, second.length - secondFrom)];
+        System.arraycopy(first, 0, merged, 0, firstLength);
+        if (secondFrom < second.length) {
+            System.arraycopy(second, secondFrom, merged, firstLength, second.length - secondFrom);
+        }
+        return merged;
+    }
+
+    static final class Result {
+        int size;
+        int[] from;
+        int[] to;
+        long[] amounts;
+        int capExceeded;
+
+        Result(int initialCapacity) {
+            int capacity = Math.max(initialCapacity, 1);
+            this.from = new int[capacity];
+            this.to = new int[capacity];
+            this.amounts = new long[capacity];
+        }
+
+        void add(int fromIndex, int toIndex, long amount) {
+            if (size == from.length) {
+                int capacity = size * 2;
+                from = Arrays.copyOf(from, capacity);
+                to = Arrays.copyOf(to, capacity);
+                amounts = Arrays.copyOf(amounts, capacity);
+            }
+            from[size] = fromIndex;
+            to[size] = toIndex;
+            amounts[size] = amount;
+            size++;
+        }
+    }
+}
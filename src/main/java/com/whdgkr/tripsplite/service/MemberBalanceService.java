@@ -0,0 +1,145 @@
+package com.whdgkr.tripsplite.service;
+
+import com.whdgkr.tripsplite.dto.MemberBalanceResponse;
+import com.whdgkr.tripsplite.dto.SettlementResponse;
+import com.whdgkr.tripsplite.repository.ParticipantRepository;
+import com.whdgkr.tripsplite.repository.TripMemberParticipant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 회원 기준 여행 전체 정산 현황
+ * - 참여 중인 모든 여행의 동행자와 원장을 쿼리 2회로 조회 (여행 수와 무관)
+ * - 여행별 송금 목록(TransferPlanner)에서 나와 관련된 송금만 상대방별로 합산
+ * - 회원과 연결된 상대는 여행 간 상계 가능, 회원이 아닌 동행자는 여행별로 표시
+ */
+@Service
+@RequiredArgsConstructor
+public class MemberBalanceService {
+
+    private final ParticipantRepository participantRepository;
+    private final BalanceLedgerService balanceLedgerService;
+    private final TransferPlanner transferPlanner;
+
+    @Transactional(readOnly = true)
+    public MemberBalanceResponse getMyBalances(Long memberId, String scope, boolean netAcrossTrips) {
+        boolean unsettledOnly = !"ALL".equalsIgnoreCase(scope);
+
+        Map<Long, List<TripMemberParticipant>> participantsByTrip = new LinkedHashMap<>();
+        for (TripMemberParticipant row : participantRepository.findParticipantsOfMemberTrips(memberId)) {
+            participantsByTrip.computeIfAbsent(row.getTripId(), k -> new ArrayList<>()).add(row);
+        }
+        Map<Long, BalanceLedgerService.Totals> totals = balanceLedgerService.readTotals(participantsByTrip.keySet(), unsettledOnly);
+
+        Map<String, CounterpartAccumulator> counterparts = new LinkedHashMap<>();
+        participantsByTrip.forEach((tripId, participants) ->
+                collectTripTransfers(memberId, tripId, participants, totals, netAcrossTrips, counterparts));
+
+        long toReceive = 0;
+        long toPay = 0;
+        List<MemberBalanceResponse.Counterpart> result = new ArrayList<>();
+        for (CounterpartAccumulator acc : counterparts.values()) {
+            if (acc.amount > 0) {
+                toReceive += acc.amount;
+            } else {
+                toPay -= acc.amount;
+            }
+            result.add(acc.toResponse());
+        }
+        result.sort((a, b) -> Long.compare(Math.abs(b.getAmount()), Math.abs(a.getAmount())));
+
+        return MemberBalanceResponse.builder()
+                .memberId(memberId)
+                .scope(unsettledOnly ? "UNSETTLED" : "ALL")
+                .netAcrossTrips(netAcrossTrips)
+                .tripCount(participantsByTrip.size())
+                .totalToReceive(toReceive)
+                .totalToPay(toPay)
+                .netBalance(toReceive - toPay)
+                .counterparts(result)
+                .build();
+    }
+
+    private void collectTripTransfers(Long memberId, Long tripId, List<TripMemberParticipant> participants,
+                                      Map<Long, BalanceLedgerService.Totals> totals, boolean netAcrossTrips,
+                                      Map<String, CounterpartAccumulator> counterparts) {
+        Set<Long> mine = new HashSet<>();
+        Map<Long, TripMemberParticipant> byId = new HashMap<>();
+        Map<Long, String> names = new HashMap<>();
+        List<SettlementResponse.ParticipantBalance> balances = new ArrayList<>();
+
+        for (TripMemberParticipant participant : participants) {
+            Long participantId = participant.getParticipantId();
+            if (memberId.equals(participant.getMemberId())) {
+                mine.add(participantId);
+            }
+            byId.put(participantId, participant);
+            names.put(participantId, participant.getParticipantName());
+
+            BalanceLedgerService.Totals t = totals.get(participantId);
+            int paid = t != null ? Math.toIntExact(t.paid()) : 0;
+            int share = t != null ? Math.toIntExact(t.share()) : 0;
+            balances.add(SettlementResponse.ParticipantBalance.builder()
+                    .participantId(participantId)
+                    .participantName(participant.getParticipantName())
+                    .paidTotal(paid)
+                    .shareTotal(share)
+                    .netBalance(paid - share)
+                    .build());
+        }
+
+        for (SettlementResponse.Transaction transfer : transferPlanner.plan(balances, names).transfers()) {
+            boolean fromMe = mine.contains(transfer.getFromParticipantId());
+            boolean toMe = mine.contains(transfer.getToParticipantId());
+            if (fromMe == toMe) {
+                continue;
+            }
+
+            TripMemberParticipant other = byId.get(fromMe ? transfer.getToParticipantId() : transfer.getFromParticipantId());
+            long amount = fromMe ? -transfer.getAmount() : transfer.getAmount();
+            String key = other.getMemberId() != null
+                    ? (netAcrossTrips ? "M" + other.getMemberId() : "M" + other.getMemberId() + "_T" + tripId)
+                    : "P" + other.getParticipantId();
+
+            counterparts.computeIfAbsent(key, k -> new CounterpartAccumulator(other))
+                    .add(tripId, other.getTripTitle(), amount);
+        }
+    }
+
+    private static class CounterpartAccumulator {
+        final Long memberId;
+        final Long participantId;
+        final String name;
+        final Map<Long, MemberBalanceResponse.TripAmount> trips = new LinkedHashMap<>();
+        long amount;
+
+        CounterpartAccumulator(TripMemberParticipant participant) {
+            this.memberId = participant.getMemberId();
+            this.participantId = participant.getMemberId() == null ? participant.getParticipantId() : null;
+            this.name = participant.getMemberName() != null ? participant.getMemberName() : participant.getParticipantName();
+        }
+
+        void add(Long tripId, String tripTitle, long delta) {
+            amount += delta;
+            MemberBalanceResponse.TripAmount trip = trips.computeIfAbsent(tripId, k -> MemberBalanceResponse.TripAmount.builder()
+                    .tripId(tripId)
+                    .tripTitle(tripTitle)
+                    .amount(0L)
+                    .build());
+            trip.setAmount(trip.getAmount() + delta);
+        }
+
+        MemberBalanceResponse.Counterpart toResponse() {
+            return MemberBalanceResponse.Counterpart.builder()
+                    .memberId(memberId)
+                    .participantId(participantId)
+                    .name(name)
+                    .amount(amount)
+                    .trips(new ArrayList<>(trips.values()))
+                    .build();
+        }
+    }
+}
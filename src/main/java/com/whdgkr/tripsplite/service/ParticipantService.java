@@ -20,6 +20,7 @@ public class ParticipantService {
     
     private final ParticipantRepository participantRepository;
     private final TripRepository tripRepository;
+    private final TripVersionService tripVersionService;
     private final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
     
     @Transactional(readOnly = true)
@@ -40,12 +41,16 @@ public class ParticipantService {
                 .build();
         
         Participant saved = participantRepository.save(participant);
+        tripVersionService.bump(tripId);
         return toResponse(saved);
     }
     
     @Transactional
     public void deleteParticipant(Long participantId) {
-        participantRepository.deleteById(participantId);
+        participantRepository.findById(participantId).ifPresent(participant -> {
+            participantRepository.delete(participant);
+            tripVersionService.bump(participant.getTrip().getId());
+        });
     }
     
     private ParticipantResponse toResponse(Participant participant) {
@@ -0,0 +1,92 @@
+package com.whdgkr.tripsplite.service;
+
+import com.whdgkr.tripsplite.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 만료/폐기된 refresh token 정기 삭제
+ * - chunk(LIMIT) 단위로 각각 짧은 트랜잭션에서 삭제하여 테이블을 오래 잠그지 않음
+ * - 실행마다 삭제 건수와 소요 시간을 로그/메트릭으로 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurgeJob {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final MeterRegistry meterRegistry;
+    private final RefreshTokenRevocationFilter refreshTokenFilter;
+
+    @Value("${auth.refresh-token.purge.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${auth.refresh-token.purge.max-chunks:500}")
+    private int maxChunks;
+
+    @Value("${auth.refresh-token.purge.pause-ms:50}")
+    private long pauseMs;
+
+    @Value("${auth.refresh-token.purge.expired-retention-hours:24}")
+    private long expiredRetentionHours;
+
+    @Value("${auth.refresh-token.purge.revoked-retention-hours:168}")
+    private long revokedRetentionHours;
+
+    @Scheduled(cron = "${auth.refresh-token.purge.cron:0 15 * * * *}")
+    public void run() {
+        purge();
+    }
+
+    public PurgeResult purge() {
+        long startedAt = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        int expired = purgeInChunks("expired",
+                limit -> refreshTokenRepository.deleteExpiredChunk(now.minusHours(expiredRetentionHours), limit));
+        int revoked = purgeInChunks("revoked",
+                limit -> refreshTokenRepository.deleteRevokedChunk(now.minusHours(revokedRetentionHours), limit));
+
+        // 삭제/폐기된 토큰 비트를 비우기 위해 필터 재구성
+        refreshTokenFilter.rebuild();
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        meterRegistry.timer("auth.refresh.token.purge").record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.info("Refresh token purge finished: expired={}, revoked={}, elapsedMs={}",
+                expired, revoked, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        return new PurgeResult(expired, revoked, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    private int purgeInChunks(String reason, IntUnaryOperator deleteChunk) {
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            int deleted = deleteChunk.applyAsInt(chunkSize);
+            total += deleted;
+            if (deleted < chunkSize) {
+                break;
+            }
+            // 다른 트랜잭션이 끼어들 수 있도록 chunk 사이에 잠시 쉼
+            if (pauseMs > 0) {
+                try {
+                    Thread.sleep(pauseMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        meterRegistry.counter("auth.refresh.token.purged", "reason", reason).increment(total);
+        return total;
+    }
+
+    public record PurgeResult(int expired, int revoked, long elapsedMs) {
+    }
+}
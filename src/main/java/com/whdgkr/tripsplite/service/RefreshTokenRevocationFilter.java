@@ -0,0 +1,232 @@
+package com.whdgkr.tripsplite.service;
+
+import com.whdgkr.tripsplite.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * refresh 토큰 DB 조회 전 메모리 사전 판정
+ * - Bloom 필터: 유효한(미폐기/미만료) 토큰 해시 집합. 필터에 없으면 확실히 무효이므로 DB 조회 없이 거부
+ *   (Bloom 필터는 삭제가 불가능해 폐기 목록이 아닌 유효 목록을 담고, 폐기/만료는 재구성 시 반영)
+ * - 최근 폐기 캐시: 재구성 전까지 필터에 남아있는 회전/로그아웃된 토큰의 재사용을 정확히 거부
+ * - 다른 인스턴스가 재구성 이후 발급한 토큰은 필터에 없으므로, 마지막 재구성 이전에 발급된 토큰만 필터로 거부
+ */
+@Slf4j
+@Component
+public class RefreshTokenRevocationFilter {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final boolean enabled;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final long maxBits;
+    private final int recentMaxEntries;
+    private final long issuedSkewMs;
+
+    private final ConcurrentHashMap<String, Instant> recentlyRevoked = new ConcurrentHashMap<>();
+    private final Queue<String> revokedOrder = new ConcurrentLinkedQueue<>();
+
+    private volatile BloomBits current;
+    private volatile Queue<String> issuedDuringRebuild; // 재구성 중 발급된 토큰도 새 필터에 반영
+    private volatile Instant coveredBefore; // 이 시각 이전에 발급된 토큰은 필터에 반영됨
+
+    private final Counter rejectedRevoked;
+    private final Counter rejectedAbsent;
+    private final Counter passed;
+
+    public RefreshTokenRevocationFilter(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${auth.refresh-token.filter.enabled:true}") boolean enabled,
+            @Value("${auth.refresh-token.filter.expected-insertions:100000}") int expectedInsertions,
+            @Value("${auth.refresh-token.filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${auth.refresh-token.filter.max-memory-kb:1024}") long maxMemoryKb,
+            @Value("${auth.refresh-token.filter.recent-revoked-max-entries:10000}") int recentMaxEntries,
+            @Value("${auth.refresh-token.filter.issued-skew-ms:5000}") long issuedSkewMs,
+            MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxBits = maxMemoryKb * 1024 * 8;
+        this.recentMaxEntries = recentMaxEntries;
+        this.issuedSkewMs = issuedSkewMs;
+        this.rejectedRevoked = meterRegistry.counter("auth.refresh.token.filter", "result", "revoked");
+        this.rejectedAbsent = meterRegistry.counter("auth.refresh.token.filter", "result", "absent");
+        this.passed = meterRegistry.counter("auth.refresh.token.filter", "result", "pass");
+        Gauge.builder("auth.refresh.token.filter.bytes", this, RefreshTokenRevocationFilter::memoryBytes).register(meterRegistry);
+        Gauge.builder("auth.refresh.token.filter.recent.size", recentlyRevoked, ConcurrentHashMap::size).register(meterRegistry);
+    }
+
+    /**
+     * @param issuedAt JWT iat (모르면 null - 최근 폐기 캐시만 확인)
+     * @return false면 확실히 무효인 토큰 (DB 조회 불필요), true면 DB 확인 필요
+     */
+    public boolean mightBeActive(String tokenHash, Instant issuedAt) {
+        if (!enabled) {
+            return true;
+        }
+        if (recentlyRevoked.containsKey(tokenHash)) {
+            rejectedRevoked.increment();
+            return false;
+        }
+        BloomBits bits = current;
+        Instant covered = coveredBefore;
+        if (bits != null && issuedAt != null && covered != null
+                && issuedAt.isBefore(covered.minusMillis(issuedSkewMs))
+                && !bits.mightContain(tokenHash)) {
+            rejectedAbsent.increment();
+            return false;
+        }
+        passed.increment();
+        return true;
+    }
+
+    // 새 토큰 발급 시 (롤백되어도 오탐만 늘어날 뿐 잘못 거부하지 않음)
+    public void onIssued(String tokenHash) {
+        if (!enabled) {
+            return;
+        }
+        // 큐 기록 후 현재 필터를 읽어야 재구성 교체 시점과 겹쳐도 누락되지 않음
+        Queue<String> queue = issuedDuringRebuild;
+        if (queue != null) {
+            queue.add(tokenHash);
+        }
+        BloomBits bits = current;
+        if (bits != null) {
+            bits.put(tokenHash);
+        }
+    }
+
+    // 회전/로그아웃으로 폐기된 토큰 (커밋 이후 호출)
+    public void onRevoked(String tokenHash) {
+        if (!enabled) {
+            return;
+        }
+        if (recentlyRevoked.put(tokenHash, Instant.now()) == null) {
+            revokedOrder.add(tokenHash);
+        }
+        while (recentlyRevoked.size() > recentMaxEntries) {
+            String eldest = revokedOrder.poll();
+            if (eldest == null) {
+                break;
+            }
+            recentlyRevoked.remove(eldest);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        rebuild();
+    }
+
+    /**
+     * DB의 유효 토큰으로 필터 재구성 (시작 시, 만료/폐기 토큰 정리 후)
+     * - 유효 토큰 수가 예상치의 절반을 넘으면 그 2배 크기로 생성 (최대 메모리 한도 내)
+     */
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        Instant snapshotAt = Instant.now();
+        Queue<String> queue = new ConcurrentLinkedQueue<>();
+        issuedDuringRebuild = queue;
+        try {
+            List<String> hashes = refreshTokenRepository.findActiveTokenHashes(LocalDateTime.now());
+            BloomBits next = BloomBits.create(Math.max(expectedInsertions, hashes.size() * 2), falsePositiveRate, maxBits);
+            hashes.forEach(next::put);
+
+            current = next;
+            for (String issued; (issued = queue.poll()) != null; ) {
+                next.put(issued);
+            }
+            coveredBefore = snapshotAt;
+            // 스냅샷 이전 폐기분은 필터에 반영되었으므로 캐시에서 제거
+            Instant reflected = snapshotAt.minusMillis(issuedSkewMs);
+            recentlyRevoked.values().removeIf(revokedAt -> revokedAt.isBefore(reflected));
+            revokedOrder.removeIf(hash -> !recentlyRevoked.containsKey(hash));
+
+            log.info("Refresh token filter rebuilt: tokens={}, bits={}, hashes={}, elapsedMs={}",
+                    hashes.size(), next.numBits, next.numHashes, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.warn("Refresh token filter rebuild failed, keeping previous filter", e);
+        } finally {
+            issuedDuringRebuild = null;
+        }
+    }
+
+    private double memoryBytes() {
+        BloomBits bits = current;
+        return bits != null ? bits.numBits / 8.0 : 0.0;
+    }
+
+    /**
+     * 비트 배열 Bloom 필터 (AtomicLongArray로 락 없이 추가/조회)
+     * - 토큰 해시가 이미 SHA-256이므로 앞 16바이트로 이중 해싱(h1 + i*h2)
+     */
+    private static final class BloomBits {
+
+        private final AtomicLongArray words;
+        private final long numBits;
+        private final int numHashes;
+
+        private BloomBits(long numBits, int numHashes) {
+            this.words = new AtomicLongArray((int) ((numBits + 63) / 64));
+            this.numBits = numBits;
+            this.numHashes = numHashes;
+        }
+
+        static BloomBits create(int insertions, double fpp, long maxBits) {
+            int n = Math.max(1, insertions);
+            long bits = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+            if (bits > maxBits) {
+                log.warn("Refresh token filter capped by max-memory: requiredBits={}, maxBits={}", bits, maxBits);
+                bits = maxBits;
+            }
+            bits = Math.max(64, bits);
+            int hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+            return new BloomBits(bits, hashes);
+        }
+
+        void put(String tokenHash) {
+            long[] h = seeds(tokenHash);
+            for (int i = 0; i < numHashes; i++) {
+                long index = Math.floorMod(h[0] + i * h[1], numBits);
+                long mask = 1L << index;
+                words.getAndUpdate((int) (index >>> 6), word -> word | mask);
+            }
+        }
+
+        boolean mightContain(String tokenHash) {
+            long[] h = seeds(tokenHash);
+            for (int i = 0; i < numHashes; i++) {
+                long index = Math.floorMod(h[0] + i * h[1], numBits);
+                if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long[] seeds(String tokenHash) {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(tokenHash));
+            return new long[]{buffer.getLong(), buffer.getLong() | 1L};
+        }
+    }
+}
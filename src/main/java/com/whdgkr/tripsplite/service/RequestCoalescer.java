@@ -0,0 +1,89 @@
+package com.whdgkr.tripsplite.service;
+
+import com.whdgkr.tripsplite.config.RetryAfterException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 동일 조회 요청 합치기 (single-flight)
+ * - 같은 키로 진행 중인 계산이 있으면 새로 실행하지 않고 그 결과를 함께 사용
+ * - 키에 여행 버전을 포함하여 변경 커밋 이후 요청은 변경 전에 시작된 계산에 합류하지 않음
+ * - 후행 요청은 최대 wait-timeout-ms만 대기 (선행 요청이 멈춰도 서블릿 스레드가 묶이지 않도록 503)
+ * - 트랜잭션 바깥(컨트롤러)에서 호출해야 대기 중인 요청이 DB 커넥션을 점유하지 않음
+ */
+@Component
+public class RequestCoalescer {
+
+    private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final TripVersionService tripVersionService;
+    private final MeterRegistry meterRegistry;
+    private final long waitTimeoutMs;
+    private final long retryAfterSeconds;
+
+    public RequestCoalescer(
+            TripVersionService tripVersionService,
+            MeterRegistry meterRegistry,
+            @Value("${request-coalescing.wait-timeout-ms:10000}") long waitTimeoutMs,
+            @Value("${request-coalescing.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.tripVersionService = tripVersionService;
+        this.meterRegistry = meterRegistry;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String kind, Long tripId, String scope, Supplier<T> loader) {
+        Key key = new Key(kind, tripId, scope, tripVersionService.currentVersion(tripId));
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+
+        if (existing != null) {
+            meterRegistry.counter("request.coalescing", "kind", kind, "result", "collapsed").increment();
+            return (T) await(kind, existing);
+        }
+
+        meterRegistry.counter("request.coalescing", "kind", kind, "result", "leader").increment();
+        try {
+            T value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private Object await(String kind, CompletableFuture<Object> future) {
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            meterRegistry.counter("request.coalescing", "kind", kind, "result", "timeout").increment();
+            throw new RetryAfterException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "요청이 많아 잠시 후 다시 시도해주세요", retryAfterSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RetryAfterException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "요청이 많아 잠시 후 다시 시도해주세요", retryAfterSeconds);
+        } catch (ExecutionException e) {
+            // 선행 요청의 예외(404 등)를 그대로 전달
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+
+    private record Key(String kind, Long tripId, String scope, long version) {
+    }
+}
@@ -1,13 +1,13 @@
 package com.whdgkr.tripsplite.service;
 
 import com.whdgkr.tripsplite.dto.SettlementResponse;
-import com.whdgkr.tripsplite.entity.*;
-import com.whdgkr.tripsplite.repository.TripRepository;
+import com.whdgkr.tripsplite.entity.Participant;
+import com.whdgkr.tripsplite.repository.ExpenseRepository;
+import com.whdgkr.tripsplite.repository.ParticipantRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.server.ResponseStatusException;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -19,7 +19,16 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class SettlementService {
 
-    private final TripRepository tripRepository;
+    private final TripVersionService tripVersionService;
+    private final TripReadCache tripReadCache;
+    private final ParticipantRepository participantRepository;
+    private final ExpenseRepository expenseRepository;
+    private final BalanceLedgerService balanceLedgerService;
+    private final TransferPlanner transferPlanner;
+
+    // LEDGER: 증분 원장 조회, AGGREGATE: 원본 테이블 GROUP BY 집계
+    @Value("${settlement.balance-source:LEDGER}")
+    private BalanceSource balanceSource;
 
     @Transactional(readOnly = true)
     public SettlementResponse calculateSettlement(Long tripId) {
@@ -28,54 +37,31 @@ public class SettlementService {
 
     @Transactional(readOnly = true)
     public SettlementResponse calculateSettlement(Long tripId, String scope) {
-        Trip trip = tripRepository.findById(tripId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Trip not found: " + tripId));
-
-        // 활성 동행자 목록 (UI 표시용)
-        List<Participant> activeParticipants = trip.getParticipants().stream()
-                .filter(p -> "N".equals(p.getDeleteYn()))
-                .toList();
+        long version = tripVersionService.currentVersion(tripId);
+        boolean unsettledOnly = !"ALL".equalsIgnoreCase(scope);
 
-        // 활성 지출만 계산 (scope에 따라 필터링)
-        List<Expense> activeExpenses = trip.getExpenses().stream()
-                .filter(e -> "N".equals(e.getDeleteYn()))
-                .filter(e -> "ALL".equalsIgnoreCase(scope) || "N".equals(e.getSettledYn()))
-                .toList();
+        return tripReadCache.get(TripReadCache.SETTLEMENT, tripId, unsettledOnly ? "UNSETTLED" : "ALL", version,
+                () -> computeSettlement(tripId, unsettledOnly));
+    }
 
-        // 활성 동행자의 잔액 계산
-        Map<Long, Integer> paidTotals = new HashMap<>();
-        Map<Long, Integer> shareTotals = new HashMap<>();
+    /**
+     * 캐시를 거치지 않고 호출한 트랜잭션의 스냅샷에서 계산 (CSV 내보내기용)
+     */
+    @Transactional(readOnly = true)
+    public SettlementResponse computeSettlement(Long tripId, String scope) {
+        return computeSettlement(tripId, !"ALL".equalsIgnoreCase(scope));
+    }
 
-        for (Participant participant : activeParticipants) {
-            paidTotals.put(participant.getId(), 0);
-            shareTotals.put(participant.getId(), 0);
-        }
+    private SettlementResponse computeSettlement(Long tripId, boolean unsettledOnly) {
+        // 활성 동행자 목록 (UI 표시용)
+        List<Participant> activeParticipants = participantRepository.findByTripIdAndDeleteYn(tripId, "N");
 
-        for (Expense expense : activeExpenses) {
-            // 활성 결제 기록 처리
-            for (ExpensePayment payment : expense.getPayments()) {
-                if ("N".equals(payment.getDeleteYn())) {
-                    Long participantId = payment.getParticipant().getId();
-                    // 활성 동행자의 결제만 계산 (삭제된 동행자 제외)
-                    if (paidTotals.containsKey(participantId)) {
-                        paidTotals.put(participantId, paidTotals.get(participantId) + payment.getAmount());
-                    }
-                }
-            }
-
-            // 활성 분배 기록 처리
-            for (ExpenseShare share : expense.getShares()) {
-                if ("N".equals(share.getDeleteYn())) {
-                    Long participantId = share.getParticipant().getId();
-                    // 활성 동행자의 분배만 계산 (삭제된 동행자 제외)
-                    if (shareTotals.containsKey(participantId)) {
-                        shareTotals.put(participantId, shareTotals.get(participantId) + share.getAmount());
-                    }
-                }
-            }
-        }
+        // 동행자별 결제/분배 합계 조회 (scope에 따라 전체/미정산분)
+        Map<Long, BalanceLedgerService.Totals> participantTotals = balanceSource == BalanceSource.AGGREGATE
+                ? balanceLedgerService.readSourceTotals(tripId, unsettledOnly)
+                : balanceLedgerService.readTotals(tripId, unsettledOnly);
 
-        // 잔액 목록 생성
+        // 잔액 목록 생성 (삭제된 동행자 제외)
         List<SettlementResponse.ParticipantBalance> balances = new ArrayList<>();
         Map<Long, String> participantNames = activeParticipants.stream()
                 .collect(Collectors.toMap(Participant::getId, Participant::getName));
@@ -86,8 +72,9 @@ public class SettlementService {
 
         for (Participant participant : activeParticipants) {
             Long participantId = participant.getId();
-            int paid = paidTotals.get(participantId);
-            int share = shareTotals.get(participantId);
+            BalanceLedgerService.Totals totals = participantTotals.get(participantId);
+            int paid = totals != null ? (int) totals.paid() : 0;
+            int share = totals != null ? (int) totals.share() : 0;
             int netBalance = paid - share;
 
             totalPaid += paid;
@@ -112,74 +99,21 @@ public class SettlementService {
         }
 
         // Calculate total expense
-        int totalExpense = activeExpenses.stream()
-                .mapToInt(Expense::getTotalAmount)
-                .sum();
+        int totalExpense = (int) expenseRepository.sumActiveTotalAmount(tripId, unsettledOnly);
 
         // Calculate recommended transfers (minimize transfers)
-        List<SettlementResponse.Transaction> transfers = calculateMinimalTransactions(balances, participantNames);
+        TransferPlanner.Plan plan = transferPlanner.plan(balances, participantNames);
 
         return SettlementResponse.builder()
                 .totalExpense(totalExpense)
                 .balances(balances)
-                .transfers(transfers)
+                .transfers(plan.transfers())
+                .solver(plan.solver())
                 .build();
     }
 
-    private List<SettlementResponse.Transaction> calculateMinimalTransactions(
-            List<SettlementResponse.ParticipantBalance> balances,
-            Map<Long, String> participantNames) {
-
-        List<SettlementResponse.Transaction> transactions = new ArrayList<>();
-
-        // Separate payers (positive balance) and receivers (negative balance)
-        PriorityQueue<BalanceNode> payers = new PriorityQueue<>((a, b) -> b.amount - a.amount);
-        PriorityQueue<BalanceNode> receivers = new PriorityQueue<>((a, b) -> a.amount - b.amount);
-
-        for (SettlementResponse.ParticipantBalance balance : balances) {
-            if (balance.getNetBalance() > 0) {
-                payers.add(new BalanceNode(balance.getParticipantId(), balance.getNetBalance()));
-            } else if (balance.getNetBalance() < 0) {
-                receivers.add(new BalanceNode(balance.getParticipantId(), balance.getNetBalance()));
-            }
-        }
-
-        // Greedy matching
-        while (!payers.isEmpty() && !receivers.isEmpty()) {
-            BalanceNode payer = payers.poll();
-            BalanceNode receiver = receivers.poll();
-
-            int transferAmount = Math.min(payer.amount, -receiver.amount);
-
-            transactions.add(SettlementResponse.Transaction.builder()
-                    .fromParticipantId(receiver.participantId)
-                    .fromParticipantName(participantNames.get(receiver.participantId))
-                    .toParticipantId(payer.participantId)
-                    .toParticipantName(participantNames.get(payer.participantId))
-                    .amount(transferAmount)
-                    .build());
-
-            payer.amount -= transferAmount;
-            receiver.amount += transferAmount;
-
-            if (payer.amount > 0) {
-                payers.add(payer);
-            }
-            if (receiver.amount < 0) {
-                receivers.add(receiver);
-            }
-        }
-
-        return transactions;
-    }
-
-    private static class BalanceNode {
-        Long participantId;
-        int amount;
-
-        BalanceNode(Long participantId, int amount) {
-            this.participantId = participantId;
-            this.amount = amount;
-        }
+    public enum BalanceSource {
+        LEDGER,
+        AGGREGATE
     }
 }
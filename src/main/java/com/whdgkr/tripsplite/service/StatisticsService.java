@@ -1,59 +1,67 @@
 package com.whdgkr.tripsplite.service;
 
 import com.whdgkr.tripsplite.dto.StatisticsResponse;
-import com.whdgkr.tripsplite.entity.Expense;
-import com.whdgkr.tripsplite.entity.ExpenseCategory;
-import com.whdgkr.tripsplite.entity.Trip;
+import com.whdgkr.tripsplite.repository.CategoryAmountTotal;
+import com.whdgkr.tripsplite.repository.DailyAmountTotal;
 import com.whdgkr.tripsplite.repository.ExpenseRepository;
-import com.whdgkr.tripsplite.repository.TripRepository;
+import com.whdgkr.tripsplite.repository.ExpenseShareRepository;
+import com.whdgkr.tripsplite.repository.ParticipantSpendTotal;
+import com.whdgkr.tripsplite.repository.TripExpenseRollupRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.server.ResponseStatusException;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class StatisticsService {
 
-    private final TripRepository tripRepository;
+    private final TripVersionService tripVersionService;
+    private final TripReadCache tripReadCache;
     private final ExpenseRepository expenseRepository;
+    private final ExpenseShareRepository expenseShareRepository;
+    private final TripExpenseRollupRepository rollupRepository;
+
+    // ROLLUP: 사전 집계 테이블 조회, AGGREGATE: 원본 테이블 GROUP BY 집계
+    @Value("${statistics.source:ROLLUP}")
+    private StatisticsSource statisticsSource;
 
     @Transactional(readOnly = true)
     public StatisticsResponse getTripStatistics(Long tripId) {
-        Trip trip = tripRepository.findById(tripId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Trip not found: " + tripId));
+        long version = tripVersionService.currentVersion(tripId);
+        return tripReadCache.get(TripReadCache.STATISTICS, tripId, "ALL", version, () -> computeStatistics(tripId));
+    }
 
-        List<Expense> expenses = expenseRepository.findByTripIdAndDeleteYnOrderByOccurredAtDesc(tripId, "N");
+    /**
+     * 통계 계산 (집계 쿼리 3회 - 카테고리별, 동행자별, 일자별)
+     * - 지출 엔티티를 로딩하지 않으므로 지출 수가 늘어도 응답 크기/비용이 일정
+     * - ROLLUP이면 (카테고리, 일자, 동행자) 사전 집계 행만 읽으므로 원본 지출 수와 무관
+     */
+    private StatisticsResponse computeStatistics(Long tripId) {
+        boolean rollup = statisticsSource == StatisticsSource.ROLLUP;
+        List<CategoryAmountTotal> categoryTotals = rollup
+                ? rollupRepository.sumByCategory(tripId)
+                : expenseRepository.sumActiveAmountsByCategory(tripId);
 
         // 총 지출 계산
-        int totalExpense = expenses.stream()
-                .mapToInt(Expense::getTotalAmount)
+        int totalExpense = (int) categoryTotals.stream()
+                .mapToLong(CategoryAmountTotal::getTotal)
                 .sum();
 
-        // 카테고리별 집계
-        Map<ExpenseCategory, Integer> categoryMap = expenses.stream()
-                .collect(Collectors.groupingBy(
-                        Expense::getCategory,
-                        Collectors.summingInt(Expense::getTotalAmount)
-                ));
-
         // 카테고리별 통계 생성
         List<StatisticsResponse.CategoryStat> categoryStats = new ArrayList<>();
-        for (ExpenseCategory category : ExpenseCategory.values()) {
-            int amount = categoryMap.getOrDefault(category, 0);
+        for (CategoryAmountTotal total : categoryTotals) {
+            int amount = total.getTotal().intValue();
             if (amount > 0) {
-                double percentage = totalExpense > 0 ? (amount * 100.0 / totalExpense) : 0.0;
                 categoryStats.add(StatisticsResponse.CategoryStat.builder()
-                        .category(category.name())
-                        .categoryName(category.getDisplayName())
+                        .category(total.getCategory().name())
+                        .categoryName(total.getCategory().getDisplayName())
                         .amount(amount)
-                        .percentage(Math.round(percentage * 10) / 10.0) // 소수점 1자리
+                        .percentage(percentage(amount, totalExpense))
+                        .expenseCount(total.getExpenseCount())
                         .build());
             }
         }
@@ -61,9 +69,51 @@ public class StatisticsService {
         // 금액 내림차순 정렬
         categoryStats.sort((a, b) -> b.getAmount().compareTo(a.getAmount()));
 
+        // 동행자별 부담 금액 (분배 기준)
+        List<StatisticsResponse.ParticipantStat> participantStats = new ArrayList<>();
+        List<ParticipantSpendTotal> participantTotals = rollup
+                ? rollupRepository.sumByParticipant(tripId)
+                : expenseShareRepository.sumActiveSpendByParticipant(tripId);
+        for (ParticipantSpendTotal total : participantTotals) {
+            int amount = total.getTotal().intValue();
+            participantStats.add(StatisticsResponse.ParticipantStat.builder()
+                    .participantId(total.getParticipantId())
+                    .participantName(total.getParticipantName())
+                    .amount(amount)
+                    .percentage(percentage(amount, totalExpense))
+                    .build());
+        }
+        participantStats.sort((a, b) -> b.getAmount().compareTo(a.getAmount()));
+
+        // 일자별 지출
+        List<StatisticsResponse.DailyStat> dailyStats = new ArrayList<>();
+        List<DailyAmountTotal> dailyTotals = rollup
+                ? rollupRepository.sumByDay(tripId)
+                : expenseRepository.sumActiveAmountsByDay(tripId);
+        for (DailyAmountTotal total : dailyTotals) {
+            dailyStats.add(StatisticsResponse.DailyStat.builder()
+                    .date(total.getDay().toString())
+                    .amount(total.getTotal().intValue())
+                    .expenseCount(total.getExpenseCount())
+                    .build());
+        }
+
         return StatisticsResponse.builder()
                 .totalExpense(totalExpense)
                 .categoryStats(categoryStats)
+                .participantStats(participantStats)
+                .dailyStats(dailyStats)
                 .build();
     }
+
+    // 소수점 1자리 비율
+    private static double percentage(int amount, int total) {
+        double percentage = total > 0 ? (amount * 100.0 / total) : 0.0;
+        return Math.round(percentage * 10) / 10.0;
+    }
+
+    public enum StatisticsSource {
+        ROLLUP,
+        AGGREGATE
+    }
 }
@@ -0,0 +1,232 @@
+package com.whdgkr.tripsplite.service;
+
+import com.whdgkr.tripsplite.dto.SettlementResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 정산 송금 목록 계산
+ * - 소규모 그룹: 합이 0인 부분집합을 최대한 많이 찾는 비트마스크 DP로 최소 송금 수 보장 (EXACT)
+ * - 인원 초과 또는 CPU 시간 예산 초과 시 두 힙 그리디 매칭으로 대체 (GREEDY)
+ * - 대규모 그룹: 원시 배열 정렬 + 투 포인터 선형 매칭 (LINEAR)
+ */
+@Slf4j
+@Component
+public class TransferPlanner {
+
+    public static final String SOLVER_GREEDY = "GREEDY";
+    public static final String SOLVER_EXACT = "EXACT";
+    public static final String SOLVER_LINEAR = "LINEAR";
+
+    // 2^n 크기 배열을 사용하므로 설정과 무관하게 상한 고정
+    private static final int EXACT_HARD_LIMIT = 20;
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    @Value("${settlement.exact-solver.max-participants:15}")
+    private int exactMaxParticipants;
+
+    @Value("${settlement.exact-solver.time-budget-ms:50}")
+    private long exactTimeBudgetMs;
+
+    @Value("${settlement.large-group.threshold:200}")
+    private int largeGroupThreshold;
+
+    // 0이면 제한 없음
+    @Value("${settlement.large-group.max-transfers-per-participant:0}")
+    private int maxTransfersPerParticipant;
+
+    public Plan plan(List<SettlementResponse.ParticipantBalance> balances, Map<Long, String> participantNames) {
+        if (balances.size() >= largeGroupThreshold) {
+            return new Plan(SOLVER_LINEAR, linear(balances, participantNames));
+        }
+
+        List<BalanceNode> nodes = new ArrayList<>();
+        long total = 0;
+        for (SettlementResponse.ParticipantBalance balance : balances) {
+            if (balance.getNetBalance() != 0) {
+                nodes.add(new BalanceNode(balance.getParticipantId(), balance.getNetBalance()));
+                total += balance.getNetBalance();
+            }
+        }
+
+        // 2명 이하이거나 합계가 맞지 않으면 그리디로 충분
+        int exactLimit = Math.min(exactMaxParticipants, EXACT_HARD_LIMIT);
+        if (nodes.size() > 2 && nodes.size() <= exactLimit && total == 0) {
+            List<List<BalanceNode>> groups = findZeroSumGroups(nodes);
+            if (groups != null) {
+                List<SettlementResponse.Transaction> transfers = new ArrayList<>();
+                for (List<BalanceNode> group : groups) {
+                    transfers.addAll(greedy(group, participantNames));
+                }
+                return new Plan(SOLVER_EXACT, transfers);
+            }
+            log.info("Exact settlement solver exceeded time budget: participants={}, budgetMs={}",
+                    nodes.size(), exactTimeBudgetMs);
+        }
+
+        return new Plan(SOLVER_GREEDY, greedy(nodes, participantNames));
+    }
+
+    /**
+     * 합이 0인 그룹으로 최대한 잘게 분할 (그룹 k개면 송금 수 = 인원 - k)
+     * @return 시간 예산 초과 시 null
+     */
+    private List<List<BalanceNode>> findZeroSumGroups(List<BalanceNode> nodes) {
+        int n = nodes.size();
+        int full = (1 << n) - 1;
+        long[] sum = new long[full + 1];
+        byte[] dp = new byte[full + 1];
+        long deadline = cpuTimeNanos() + exactTimeBudgetMs * 1_000_000L;
+
+        // dp[mask] = mask를 한 명씩 쌓아갈 때 합이 0이 되는 시점의 최대 개수
+        for (int mask = 1; mask <= full; mask++) {
+            if ((mask & 0x3FF) == 0 && cpuTimeNanos() > deadline) {
+                return null;
+            }
+            sum[mask] = sum[mask & (mask - 1)] + nodes.get(Integer.numberOfTrailingZeros(mask)).amount;
+
+            int best = 0;
+            for (int rest = mask; rest != 0; rest &= rest - 1) {
+                best = Math.max(best, dp[mask ^ (rest & -rest)]);
+            }
+            dp[mask] = (byte) (best + (sum[mask] == 0 ? 1 : 0));
+        }
+
+        // 역추적으로 추가 순서 복원
+        int[] order = new int[n];
+        int mask = full;
+        for (int k = n - 1; k >= 0; k--) {
+            int target = dp[mask] - (sum[mask] == 0 ? 1 : 0);
+            for (int rest = mask; rest != 0; rest &= rest - 1) {
+                int bit = rest & -rest;
+                if (dp[mask ^ bit] == target) {
+                    order[k] = Integer.numberOfTrailingZeros(bit);
+                    mask ^= bit;
+                    break;
+                }
+            }
+        }
+
+        // 누적합이 0이 되는 지점마다 그룹 분리
+        List<List<BalanceNode>> groups = new ArrayList<>();
+        List<BalanceNode> current = new ArrayList<>();
+        long running = 0;
+        for (int index : order) {
+            BalanceNode node = nodes.get(index);
+            current.add(new BalanceNode(node.participantId, node.amount));
+            running += node.amount;
+            if (running == 0) {
+                groups.add(current);
+                current = new ArrayList<>();
+            }
+        }
+        if (!current.isEmpty()) {
+            groups.add(current);
+        }
+        return groups;
+    }
+
+    private List<SettlementResponse.Transaction> linear(
+            List<SettlementResponse.ParticipantBalance> balances,
+            Map<Long, String> participantNames) {
+        int n = balances.size();
+        long[] participantIds = new long[n];
+        long[] netBalances = new long[n];
+        for (int i = 0; i < n; i++) {
+            SettlementResponse.ParticipantBalance balance = balances.get(i);
+            participantIds[i] = balance.getParticipantId();
+            netBalances[i] = balance.getNetBalance();
+        }
+
+        LinearTransferSolver.Result result = LinearTransferSolver.solve(netBalances, maxTransfersPerParticipant);
+        if (result.capExceeded > 0) {
+            log.info("Transfer cap exceeded to keep settlement balanced: participants={}, cap={}, exceeded={}",
+                    n, maxTransfersPerParticipant, result.capExceeded);
+        }
+
+        List<SettlementResponse.Transaction> transactions = new ArrayList<>(result.size);
+        for (int k = 0; k < result.size; k++) {
+            long fromId = participantIds[result.from[k]];
+            long toId = participantIds[result.to[k]];
+            transactions.add(SettlementResponse.Transaction.builder()
+                    .fromParticipantId(fromId)
+                    .fromParticipantName(participantNames.get(fromId))
+                    .toParticipantId(toId)
+                    .toParticipantName(participantNames.get(toId))
+                    .amount((int) result.amounts[k])
+                    .build());
+        }
+        return transactions;
+    }
+
+    private List<SettlementResponse.Transaction> greedy(List<BalanceNode> nodes, Map<Long, String> participantNames) {
+        List<SettlementResponse.Transaction> transactions = new ArrayList<>();
+
+        // Separate payers (positive balance) and receivers (negative balance)
+        PriorityQueue<BalanceNode> payers = new PriorityQueue<>((a, b) -> b.amount - a.amount);
+        PriorityQueue<BalanceNode> receivers = new PriorityQueue<>((a, b) -> a.amount - b.amount);
+
+        for (BalanceNode node : nodes) {
+            if (node.amount > 0) {
+                payers.add(new BalanceNode(node.participantId, node.amount));
+            } else if (node.amount < 0) {
+                receivers.add(new BalanceNode(node.participantId, node.amount));
+            }
+        }
+
+        // Greedy matching
+        while (!payers.isEmpty() && !receivers.isEmpty()) {
+            BalanceNode payer = payers.poll();
+            BalanceNode receiver = receivers.poll();
+
+            int transferAmount = Math.min(payer.amount, -receiver.amount);
+
+            transactions.add(SettlementResponse.Transaction.builder()
+                    .fromParticipantId(receiver.participantId)
+                    .fromParticipantName(participantNames.get(receiver.participantId))
+                    .toParticipantId(payer.participantId)
+                    .toParticipantName(participantNames.get(payer.participantId))
+                    .amount(transferAmount)
+                    .build());
+
+            payer.amount -= transferAmount;
+            receiver.amount += transferAmount;
+
+            if (payer.amount > 0) {
+                payers.add(payer);
+            }
+            if (receiver.amount < 0) {
+                receivers.add(receiver);
+            }
+        }
+
+        return transactions;
+    }
+
+    private static long cpuTimeNanos() {
+        return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()
+                ? THREAD_MX_BEAN.getCurrentThreadCpuTime()
+                : System.nanoTime();
+    }
+
+    public record Plan(String solver, List<SettlementResponse.Transaction> transfers) {
+    }
+
+    private static class BalanceNode {
+        Long participantId;
+        int amount;
+
+        BalanceNode(Long participantId, int amount) {
+            this.participantId = participantId;
+            this.amount = amount;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.whdgkr.tripsplite.service;
+
+/**
+ * 여행 데이터(지출/동행자/기간) 변경 이벤트
+ */
+public record TripChangedEvent(Long tripId) {
+}
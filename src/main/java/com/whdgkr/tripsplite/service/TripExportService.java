@@ -0,0 +1,254 @@
+package com.whdgkr.tripsplite.service;
+
+import com.whdgkr.tripsplite.config.RetryAfterException;
+import com.whdgkr.tripsplite.dto.SettlementResponse;
+import com.whdgkr.tripsplite.repository.TripRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여행 전체 내역 CSV 내보내기
+ * - 지출/결제/분배를 forward-only 커서(MySQL 스트리밍)로 읽어 바로 출력 (메모리 사용량 일정)
+ * - 마지막에 정산 요약(잔액, 송금 목록) 추가 - 캐시를 거치지 않고 같은 트랜잭션에서 계산
+ * - REPEATABLE READ 읽기 트랜잭션 하나에서 조회하여 섹션 간 일관된 스냅샷 유지
+ * - 내보내기 동안 커넥션을 점유하므로 동시 실행 수와 전체 소요 시간을 제한
+ */
+@Slf4j
+@Service
+public class TripExportService {
+
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private static final String EXPENSES_SQL = """
+            SELECT e.id, e.occurred_at, e.title, e.category, e.currency, e.total_amount, e.settled_yn
+            FROM expenses e
+            WHERE e.trip_id = ? AND e.delete_yn = 'N'
+            ORDER BY e.occurred_at, e.id
+            """;
+
+    private static final String PAYMENTS_SQL = """
+            SELECT ep.expense_id, ep.participant_id, p.name, ep.amount
+            FROM expense_payments ep
+            JOIN expenses e ON e.id = ep.expense_id
+            JOIN participants p ON p.id = ep.participant_id
+            WHERE e.trip_id = ? AND e.delete_yn = 'N' AND ep.delete_yn = 'N'
+            ORDER BY ep.expense_id, ep.id
+            """;
+
+    private static final String SHARES_SQL = """
+            SELECT es.expense_id, es.participant_id, p.name, es.amount
+            FROM expense_shares es
+            JOIN expenses e ON e.id = es.expense_id
+            JOIN participants p ON p.id = es.participant_id
+            WHERE e.trip_id = ? AND e.delete_yn = 'N' AND es.delete_yn = 'N'
+            ORDER BY es.expense_id, es.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TripRepository tripRepository;
+    private final SettlementService settlementService;
+    private final TransactionTemplate snapshotTransaction;
+    private final Semaphore permits;
+    private final long timeoutMs;
+    private final long retryAfterSeconds;
+
+    public TripExportService(
+            JdbcTemplate jdbcTemplate,
+            TripRepository tripRepository,
+            SettlementService settlementService,
+            PlatformTransactionManager transactionManager,
+            @Value("${trip-export.max-concurrent:2}") int maxConcurrent,
+            @Value("${trip-export.timeout-seconds:120}") long timeoutSeconds,
+            @Value("${trip-export.retry-after-seconds:5}") long retryAfterSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tripRepository = tripRepository;
+        this.settlementService = settlementService;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.permits = new Semaphore(maxConcurrent);
+        this.timeoutMs = TimeUnit.SECONDS.toMillis(timeoutSeconds);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 여행 존재 여부 확인 (응답 헤더 작성 전에 호출)
+     */
+    @Transactional(readOnly = true)
+    public void checkExportable(Long tripId) {
+        if (!tripRepository.existsById(tripId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Trip not found: " + tripId);
+        }
+    }
+
+    /**
+     * 동시 실행 수를 넘으면 503 (Retry-After) - 커넥션 풀이 내보내기로 고갈되지 않도록 대기 없이 거절
+     * - 제한 시간을 넘기면 행 출력 중 중단하고 트랜잭션/커넥션 반환 (느린 클라이언트 대비)
+     */
+    public void writeCsv(Long tripId, String scope, Writer out) throws IOException {
+        if (!permits.tryAcquire()) {
+            throw new RetryAfterException(HttpStatus.SERVICE_UNAVAILABLE, "내보내기 요청이 많습니다. 잠시 후 다시 시도해 주세요",
+                    retryAfterSeconds);
+        }
+        try {
+            long deadline = System.currentTimeMillis() + timeoutMs;
+            snapshotTransaction.executeWithoutResult(status -> {
+                try {
+                    writeSections(tripId, scope, out, deadline);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void writeSections(Long tripId, String scope, Writer out, long deadline) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+        out.write('\uFEFF');
+
+        out.write("[expenses]\n");
+        writeRow(out, "expense_id", "occurred_at", "title", "category", "currency", "total_amount", "settled");
+        long expenseRows = stream(EXPENSES_SQL, tripId, deadline, rs -> {
+            Timestamp occurredAt = rs.getTimestamp(2);
+            writeRow(out,
+                    String.valueOf(rs.getLong(1)),
+                    occurredAt != null ? occurredAt.toLocalDateTime().toString() : "",
+                    rs.getString(3),
+                    rs.getString(4),
+                    rs.getString(5),
+                    String.valueOf(rs.getInt(6)),
+                    rs.getString(7));
+        });
+
+        out.write("\n[payments]\n");
+        writeRow(out, "expense_id", "participant_id", "participant_name", "amount");
+        long paymentRows = stream(PAYMENTS_SQL, tripId, deadline, rs -> writeRow(out,
+                String.valueOf(rs.getLong(1)), String.valueOf(rs.getLong(2)), rs.getString(3), String.valueOf(rs.getInt(4))));
+
+        out.write("\n[shares]\n");
+        writeRow(out, "expense_id", "participant_id", "participant_name", "amount");
+        long shareRows = stream(SHARES_SQL, tripId, deadline, rs -> writeRow(out,
+                String.valueOf(rs.getLong(1)), String.valueOf(rs.getLong(2)), rs.getString(3), String.valueOf(rs.getInt(4))));
+
+        // TripReadCache 항목은 다른 시점의 스냅샷일 수 있으므로 현재 트랜잭션에서 직접 계산
+        SettlementResponse settlement = settlementService.computeSettlement(tripId, scope);
+
+        out.write("\n[settlement]\n");
+        writeRow(out, "scope", "total_expense", "solver");
+        writeRow(out, "ALL".equalsIgnoreCase(scope) ? "ALL" : "UNSETTLED",
+                String.valueOf(settlement.getTotalExpense()), settlement.getSolver());
+
+        out.write("\n[balances]\n");
+        writeRow(out, "participant_id", "participant_name", "paid_total", "share_total", "net_balance");
+        for (SettlementResponse.ParticipantBalance balance : settlement.getBalances()) {
+            writeRow(out, String.valueOf(balance.getParticipantId()), balance.getParticipantName(),
+                    String.valueOf(balance.getPaidTotal()), String.valueOf(balance.getShareTotal()),
+                    String.valueOf(balance.getNetBalance()));
+        }
+
+        out.write("\n[transfers]\n");
+        writeRow(out, "from_participant_id", "from_participant_name", "to_participant_id", "to_participant_name", "amount");
+        for (SettlementResponse.Transaction transfer : settlement.getTransfers()) {
+            writeRow(out, String.valueOf(transfer.getFromParticipantId()), transfer.getFromParticipantName(),
+                    String.valueOf(transfer.getToParticipantId()), transfer.getToParticipantName(),
+                    String.valueOf(transfer.getAmount()));
+        }
+        out.flush();
+
+        log.info("Trip export finished: tripId={}, expenses={}, payments={}, shares={}, elapsedMs={}",
+                tripId, expenseRows, paymentRows, shareRows, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * forward-only, read-only 커서로 한 행씩 처리
+     * - MySQL Connector/J는 fetchSize=Integer.MIN_VALUE일 때 결과를 버퍼링하지 않고 스트리밍
+     * - 그 외 드라이버(H2 등)는 음수 fetch size를 거부하므로 일반 fetch size 사용
+     */
+    private long stream(String sql, Long tripId, long deadline, RowWriter rowWriter) {
+        long[] count = {0};
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(con.getMetaData().getDriverName().startsWith("MySQL") ? Integer.MIN_VALUE : STREAM_FETCH_SIZE);
+            ps.setLong(1, tripId);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            if (System.currentTimeMillis() > deadline) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Trip export timed out: " + tripId);
+            }
+            try {
+                rowWriter.write(rs);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    private static void writeRow(Writer out, String... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(escape(values[i]));
+        }
+        out.write('\n');
+    }
+
+    /**
+     * CSV 이스케이프
+     * - 수식으로 해석될 수 있는 값(=, +, -, @ 등으로 시작)은 앞에 ' 를 붙여 스프레드시트 수식 주입 방지
+     * - 숫자 값은 음수도 그대로 출력
+     */
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        String result = value;
+        if (!result.isEmpty() && "=+-@\t\r".indexOf(result.charAt(0)) >= 0 && !isNumber(result)) {
+            result = "'" + result;
+        }
+        if (result.indexOf(',') >= 0 || result.indexOf('"') >= 0 || result.indexOf('\n') >= 0 || result.indexOf('\r') >= 0) {
+            result = "\"" + result.replace("\"", "\"\"") + "\"";
+        }
+        return result;
+    }
+
+    private static boolean isNumber(String value) {
+        for (int i = value.charAt(0) == '-' ? 1 : 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return value.length() > 1 || Character.isDigit(value.charAt(0));
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs) throws IOException, SQLException;
+    }
+}
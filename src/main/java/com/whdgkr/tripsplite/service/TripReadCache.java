@@ -0,0 +1,99 @@
+package com.whdgkr.tripsplite.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 정산/통계 조회 결과 캐시
+ * - 키: (종류, tripId, scope, version) - 버전이 바뀌면 이전 결과는 더 이상 조회되지 않음
+ * - 최대 개수(LRU) + TTL로 제거, 변경 커밋 후 해당 여행 항목 즉시 제거
+ */
+@Component
+public class TripReadCache {
+
+    public static final String SETTLEMENT = "settlement";
+    public static final String STATISTICS = "statistics";
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Map<Key, Entry> entries;
+    private final MeterRegistry meterRegistry;
+
+    public TripReadCache(
+            @Value("${trip-read-cache.enabled:true}") boolean enabled,
+            @Value("${trip-read-cache.max-entries:1000}") int maxEntries,
+            @Value("${trip-read-cache.ttl-seconds:300}") long ttlSeconds,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.meterRegistry = meterRegistry;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > TripReadCache.this.maxEntries;
+            }
+        };
+        Gauge.builder("trip.read.cache.size", this, TripReadCache::size).register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String kind, Long tripId, String scope, long version, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Key key = new Key(kind, tripId, scope, version);
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt - now > 0) {
+                counter(kind, "hit").increment();
+                return (T) entry.value;
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+        }
+
+        counter(kind, "miss").increment();
+        T value = loader.get();
+        synchronized (entries) {
+            entries.put(key, new Entry(value, now + ttlNanos));
+        }
+        return value;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTripChanged(TripChangedEvent event) {
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> key.tripId().equals(event.tripId()));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private Counter counter(String kind, String result) {
+        return meterRegistry.counter("trip.read.cache", "cache", kind, "result", result);
+    }
+
+    private record Key(String kind, Long tripId, String scope, long version) {
+    }
+
+    private record Entry(Object value, long expiresAt) {
+    }
+}
@@ -1,15 +1,10 @@
 package com.whdgkr.tripsplite.service;
 
 import com.whdgkr.tripsplite.dto.*;
-import com.whdgkr.tripsplite.entity.Friend;
-import com.whdgkr.tripsplite.entity.Member;
-import com.whdgkr.tripsplite.entity.Participant;
-import com.whdgkr.tripsplite.entity.Trip;
-import com.whdgkr.tripsplite.repository.FriendRepository;
-import com.whdgkr.tripsplite.repository.MemberRepository;
-import com.whdgkr.tripsplite.repository.ParticipantRepository;
-import com.whdgkr.tripsplite.repository.TripRepository;
+import com.whdgkr.tripsplite.entity.*;
+import com.whdgkr.tripsplite.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,67 +13,121 @@ import org.springframework.web.server.ResponseStatusException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TripService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final LocalDate MAX_CURSOR_DATE = LocalDate.of(9999, 12, 31);
+
     private final TripRepository tripRepository;
     private final FriendRepository friendRepository;
     private final ParticipantRepository participantRepository;
     private final MemberRepository memberRepository;
+    private final ExpenseRepository expenseRepository;
+    private final ExpensePaymentRepository expensePaymentRepository;
+    private final ExpenseShareRepository expenseShareRepository;
+    private final TripVersionService tripVersionService;
     private final DateTimeFormatter dateFormatter = DateTimeFormatter.ISO_LOCAL_DATE;
     private final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
     @Transactional(readOnly = true)
     public List<TripResponse> getAllTrips() {
-        return tripRepository.findByDeleteYn("N").stream()
-                .map(this::toSimpleResponse)
-                .collect(Collectors.toList());
+        return toSimpleResponses(tripRepository.findByDeleteYn("N"));
     }
 
     @Transactional(readOnly = true)
     public TripResponse getTripById(Long tripId) {
-        Trip trip = tripRepository.findById(tripId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Trip not found: " + tripId));
-        return toDetailResponse(trip);
+        return loadDetailResponse(tripId);
     }
 
+    /**
+     * 친구가 참여한 여행 전체 목록 (기존 API 계약 유지: 건수 제한 없음, id 오름차순)
+     * - 여행이 많은 회원은 /matched/page (id 내림차순 keyset 페이지) 사용
+     */
     @Transactional(readOnly = true)
     public List<TripResponse> getMatchedTrips(Long memberId) {
-        // 1. 내 친구 목록의 friendId 조회
-        List<Friend> myFriends = friendRepository.findByOwnerMemberIdAndDeleteYn(memberId, "N");
-        if (myFriends.isEmpty()) {
-            return new ArrayList<>();
+        List<Long> tripIds = new ArrayList<>(tripRepository.findMatchedTripIds(memberId, Long.MAX_VALUE, Integer.MAX_VALUE));
+        Collections.reverse(tripIds);
+        return toSimpleResponsesByIds(tripIds);
+    }
+
+    /**
+     * 친구가 참여한 여행 목록 (id 내림차순 keyset 페이지)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TripResponse> getMatchedTripsPage(Long memberId, String cursor, int size) {
+        int pageSize = normalizePageSize(size);
+        long afterId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                afterId = Long.parseLong(cursor);
+            } catch (NumberFormatException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor: " + cursor);
+            }
         }
 
-        // 2. 친구들의 email과 friendId 수집
-        List<String> friendEmails = myFriends.stream()
-                .map(Friend::getEmail)
-                .filter(email -> email != null && !email.isEmpty())
-                .collect(Collectors.toList());
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Long> tripIds = tripRepository.findMatchedTripIds(memberId, afterId, pageSize + 1);
+        boolean hasNext = tripIds.size() > pageSize;
+        if (hasNext) {
+            tripIds = tripIds.subList(0, pageSize);
+        }
 
-        List<String> friendIds = myFriends.stream()
-                .map(Friend::getFriendId)
-                .filter(id -> id != null && !id.isEmpty())
-                .collect(Collectors.toList());
+        return CursorPageResponse.<TripResponse>builder()
+                .items(toSimpleResponsesByIds(tripIds))
+                .nextCursor(hasNext ? String.valueOf(tripIds.get(tripIds.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
 
-        // 3. 모든 활성 여행 조회
-        List<Trip> allTrips = tripRepository.findByDeleteYn("N");
-
-        // 4. 각 여행의 참여자 중에서 친구 email 또는 friendId와 매칭되는 경우 필터링
-        return allTrips.stream()
-                .filter(trip -> {
-                    List<Participant> participants = participantRepository.findByTripIdAndDeleteYn(trip.getId(), "N");
-                    return participants.stream()
-                            .anyMatch(p ->
-                                (p.getEmail() != null && friendEmails.contains(p.getEmail()))
-                            );
-                })
-                .map(this::toSimpleResponse)
-                .collect(Collectors.toList());
+    /**
+     * 내가 참여 중인 여행 목록 (start_date, id 내림차순 keyset 페이지)
+     * - cursor 형식: {startDate}_{tripId} (예: 2025-12-28_15)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TripResponse> getMyTrips(Long memberId, String cursor, int size) {
+        int pageSize = normalizePageSize(size);
+        LocalDate cursorDate = MAX_CURSOR_DATE;
+        long cursorId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String[] parts = cursor.split("_", 2);
+                cursorDate = LocalDate.parse(parts[0], dateFormatter);
+                cursorId = Long.parseLong(parts[1]);
+            } catch (RuntimeException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor: " + cursor);
+            }
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Trip> trips = participantRepository.findMemberTrips(
+                memberId, cursorDate, cursorId, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = trips.size() > pageSize;
+        if (hasNext) {
+            trips = trips.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Trip last = trips.get(trips.size() - 1);
+            nextCursor = last.getStartDate().format(dateFormatter) + "_" + last.getId();
+        }
+
+        return CursorPageResponse.<TripResponse>builder()
+                .items(toSimpleResponses(trips))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
     @Transactional
@@ -122,11 +171,18 @@ public class TripService {
 
         // Create participants from detailed participant info (non-owner participants only)
         if (request.getParticipants() != null && !request.getParticipants().isEmpty()) {
+            // 참조된 친구를 한 번에 조회
+            List<Long> friendIds = request.getParticipants().stream()
+                    .map(TripRequest.ParticipantInfo::getFriendId)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .collect(Collectors.toList());
+            Map<Long, Friend> friendsById = friendIds.isEmpty() ? Map.of()
+                    : friendRepository.findByIdIn(friendIds).stream()
+                            .collect(Collectors.toMap(Friend::getId, f -> f));
+
             for (TripRequest.ParticipantInfo info : request.getParticipants()) {
-                Friend friend = null;
-                if (info.getFriendId() != null) {
-                    friend = friendRepository.findById(info.getFriendId()).orElse(null);
-                }
+                Friend friend = info.getFriendId() != null ? friendsById.get(info.getFriendId()) : null;
 
                 Participant participant = Participant.builder()
                         .trip(saved)
@@ -146,7 +202,7 @@ public class TripService {
         }
 
         saved.setParticipants(participants);
-        return toDetailResponse(saved);
+        return toDetailResponse(saved, List.of(), Map.of(), Map.of());
     }
 
     @Transactional
@@ -155,6 +211,7 @@ public class TripService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Trip not found: " + tripId));
         trip.setDeleteYn("Y");
         tripRepository.save(trip);
+        tripVersionService.bump(tripId);
     }
 
     @Transactional
@@ -184,9 +241,10 @@ public class TripService {
 
         trip.setStartDate(startDate);
         trip.setEndDate(endDate);
-        Trip saved = tripRepository.save(trip);
+        tripRepository.save(trip);
+        tripVersionService.bump(tripId);
 
-        return toDetailResponse(saved);
+        return loadDetailResponse(tripId);
     }
 
     @Transactional
@@ -209,6 +267,7 @@ public class TripService {
                 .build();
 
         Participant saved = participantRepository.save(participant);
+        tripVersionService.bump(tripId);
 
         // 동행자 추가 시 친구 목록에도 자동 등록 (phone 또는 email 있는 경우만)
         autoRegisterAsFriend(memberId, request.getName(), request.getPhone(), request.getEmail());
@@ -276,6 +335,7 @@ public class TripService {
 
         participant.setDeleteYn("Y");
         participantRepository.save(participant);
+        tripVersionService.bump(tripId);
     }
 
     private ParticipantResponse toParticipantResponse(Participant p) {
@@ -291,12 +351,52 @@ public class TripService {
                 .build();
     }
 
-    private TripResponse toSimpleResponse(Trip trip) {
-        List<ParticipantResponse> participants = trip.getParticipants().stream()
+    /**
+     * id 순서를 유지하며 여행 + 동행자를 각각 한 번의 쿼리로 조회하여 변환
+     */
+    private List<TripResponse> toSimpleResponsesByIds(List<Long> tripIds) {
+        if (tripIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, Trip> trips = tripRepository.findAllById(tripIds).stream()
+                .collect(Collectors.toMap(Trip::getId, Function.identity()));
+        return toSimpleResponses(tripIds.stream()
+                .map(trips::get)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    private List<TripResponse> toSimpleResponses(List<Trip> trips) {
+        if (trips.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> tripIds = trips.stream().map(Trip::getId).toList();
+        Map<Long, List<Participant>> participantsByTrip = participantRepository.findByTripIdIn(tripIds).stream()
+                .collect(Collectors.groupingBy(p -> p.getTrip().getId()));
+
+        return trips.stream()
+                .map(trip -> toSimpleResponse(trip, participantsByTrip.getOrDefault(trip.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    private int normalizePageSize(int size) {
+        if (size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private TripResponse toSimpleResponse(Trip trip, List<Participant> tripParticipants) {
+        List<ParticipantResponse> participants = tripParticipants.stream()
                 .map(this::toParticipantResponse)
                 .collect(Collectors.toList());
 
-        Participant owner = trip.getOwner();
+        Participant owner = tripParticipants.stream()
+                .filter(p -> Boolean.TRUE.equals(p.getIsOwner()))
+                .findFirst()
+                .orElse(null);
 
         return TripResponse.builder()
                 .id(trip.getId())
@@ -310,14 +410,34 @@ public class TripService {
                 .build();
     }
 
-    private TripResponse toDetailResponse(Trip trip) {
+    /**
+     * 여행 상세 조회 (지출 수와 무관하게 쿼리 4회)
+     * - 여행+동행자, 활성 지출, 활성 결제(+동행자), 활성 분배(+동행자)
+     */
+    private TripResponse loadDetailResponse(Long tripId) {
+        Trip trip = tripRepository.findWithParticipantsById(tripId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Trip not found: " + tripId));
+
+        List<Expense> expenses = expenseRepository.findByTripIdAndDeleteYnOrderByIdAsc(tripId, "N");
+        Map<Long, List<ExpensePayment>> paymentsByExpense = expensePaymentRepository.findActiveByTripId(tripId).stream()
+                .collect(Collectors.groupingBy(p -> p.getExpense().getId()));
+        Map<Long, List<ExpenseShare>> sharesByExpense = expenseShareRepository.findActiveByTripId(tripId).stream()
+                .collect(Collectors.groupingBy(s -> s.getExpense().getId()));
+
+        return toDetailResponse(trip, expenses, paymentsByExpense, sharesByExpense);
+    }
+
+    private TripResponse toDetailResponse(Trip trip, List<Expense> activeExpenses,
+                                          Map<Long, List<ExpensePayment>> paymentsByExpense,
+                                          Map<Long, List<ExpenseShare>> sharesByExpense) {
         List<ParticipantResponse> participants = trip.getParticipants().stream()
                 .map(this::toParticipantResponse)
                 .collect(Collectors.toList());
 
-        List<ExpenseResponse> expenses = trip.getExpenses().stream()
-                .filter(e -> "N".equals(e.getDeleteYn()))
-                .map(this::toExpenseResponse)
+        List<ExpenseResponse> expenses = activeExpenses.stream()
+                .map(e -> toExpenseResponse(e,
+                        paymentsByExpense.getOrDefault(e.getId(), List.of()),
+                        sharesByExpense.getOrDefault(e.getId(), List.of())))
                 .collect(Collectors.toList());
 
         Participant owner = trip.getOwner();
@@ -335,9 +455,9 @@ public class TripService {
                 .build();
     }
 
-    private ExpenseResponse toExpenseResponse(com.whdgkr.tripsplite.entity.Expense expense) {
-        List<ExpenseResponse.PaymentDetail> payments = expense.getPayments().stream()
-                .filter(p -> "N".equals(p.getDeleteYn()))
+    private ExpenseResponse toExpenseResponse(Expense expense, List<ExpensePayment> activePayments,
+                                              List<ExpenseShare> activeShares) {
+        List<ExpenseResponse.PaymentDetail> payments = activePayments.stream()
                 .map(p -> ExpenseResponse.PaymentDetail.builder()
                         .participantId(p.getParticipant().getId())
                         .participantName(p.getParticipant().getName())
@@ -345,8 +465,7 @@ public class TripService {
                         .build())
                 .collect(Collectors.toList());
 
-        List<ExpenseResponse.ShareDetail> shares = expense.getShares().stream()
-                .filter(s -> "N".equals(s.getDeleteYn()))
+        List<ExpenseResponse.ShareDetail> shares = activeShares.stream()
                 .map(s -> ExpenseResponse.ShareDetail.builder()
                         .participantId(s.getParticipant().getId())
                         .participantName(s.getParticipant().getName())
@@ -0,0 +1,33 @@
+package com.whdgkr.tripsplite.service;
+
+import com.whdgkr.tripsplite.repository.TripRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 여행 데이터 버전 관리
+ * - 변경 트랜잭션 안에서 버전 증가 후 TripChangedEvent 발행
+ */
+@Service
+@RequiredArgsConstructor
+public class TripVersionService {
+
+    private final TripRepository tripRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void bump(Long tripId) {
+        tripRepository.incrementVersion(tripId);
+        eventPublisher.publishEvent(new TripChangedEvent(tripId));
+    }
+
+    @Transactional(readOnly = true)
+    public long currentVersion(Long tripId) {
+        return tripRepository.findVersionById(tripId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Trip not found: " + tripId));
+    }
+}
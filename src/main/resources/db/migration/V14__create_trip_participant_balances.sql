@@ -0,0 +1,45 @@
+-- 동행자별 정산 잔액 원장
+-- 지출 생성/수정/삭제/정산완료 시 증분 갱신되어 정산 조회가 O(동행자 수)로 동작
+CREATE TABLE trip_participant_balances (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    trip_id BIGINT NOT NULL,
+    participant_id BIGINT NOT NULL,
+    paid_total BIGINT NOT NULL DEFAULT 0,
+    share_total BIGINT NOT NULL DEFAULT 0,
+    unsettled_paid_total BIGINT NOT NULL DEFAULT 0,
+    unsettled_share_total BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME(3) NOT NULL,
+    CONSTRAINT uk_trip_participant_balances UNIQUE (trip_id, participant_id),
+    CONSTRAINT fk_balances_trip FOREIGN KEY (trip_id) REFERENCES trips(id) ON DELETE CASCADE,
+    CONSTRAINT fk_balances_participant FOREIGN KEY (participant_id) REFERENCES participants(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 기존 지출 데이터로 원장 백필 (삭제되지 않은 지출/결제/분배만 반영)
+INSERT INTO trip_participant_balances
+    (trip_id, participant_id, paid_total, share_total, unsettled_paid_total, unsettled_share_total, updated_at)
+SELECT p.trip_id,
+       p.id,
+       COALESCE(pay.paid_total, 0),
+       COALESCE(sh.share_total, 0),
+       COALESCE(pay.unsettled_paid_total, 0),
+       COALESCE(sh.unsettled_share_total, 0),
+       NOW(3)
+FROM participants p
+LEFT JOIN (
+    SELECT ep.participant_id,
+           SUM(ep.amount) AS paid_total,
+           SUM(CASE WHEN e.settled_yn = 'N' THEN ep.amount ELSE 0 END) AS unsettled_paid_total
+    FROM expense_payments ep
+    JOIN expenses e ON e.id = ep.expense_id
+    WHERE ep.delete_yn = 'N' AND e.delete_yn = 'N'
+    GROUP BY ep.participant_id
+) pay ON pay.participant_id = p.id
+LEFT JOIN (
+    SELECT es.participant_id,
+           SUM(es.amount) AS share_total,
+           SUM(CASE WHEN e.settled_yn = 'N' THEN es.amount ELSE 0 END) AS unsettled_share_total
+    FROM expense_shares es
+    JOIN expenses e ON e.id = es.expense_id
+    WHERE es.delete_yn = 'N' AND e.delete_yn = 'N'
+    GROUP BY es.participant_id
+) sh ON sh.participant_id = p.id;
@@ -0,0 +1,3 @@
+-- 여행 데이터 버전 (지출/동행자 변경 시마다 증가)
+-- 정산/통계 조회 결과 캐시 키로 사용
+ALTER TABLE trips ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,5 @@
+-- 친구 기반 여행 매칭 조회용 복합 인덱스
+-- friends(owner, delete_yn, email) -> participants(email/friend_id, delete_yn, trip_id) 순으로 탐색
+CREATE INDEX idx_friends_owner_delete_email ON friends(owner_member_id, delete_yn, email);
+CREATE INDEX idx_participants_email_delete_trip ON participants(email, delete_yn, trip_id);
+CREATE INDEX idx_participants_friend_delete_trip ON participants(friend_id, delete_yn, trip_id);
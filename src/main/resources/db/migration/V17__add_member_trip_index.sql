@@ -0,0 +1,2 @@
+-- 회원 -> 참여 여행 조회용 복합 인덱스 (내 여행 목록)
+CREATE INDEX idx_participants_user_delete_trip ON participants(user_id, delete_yn, trip_id);
@@ -0,0 +1,6 @@
+-- 지출 목록 keyset 페이지 조회용 (trip_id, delete_yn, occurred_at, id)
+CREATE INDEX idx_expenses_trip_delete_occurred ON expenses(trip_id, delete_yn, occurred_at, id);
+
+-- 동행자 필터 (지출별 결제/분배 존재 여부) 조회용
+CREATE INDEX idx_expense_payments_expense_participant ON expense_payments(expense_id, participant_id, delete_yn);
+CREATE INDEX idx_expense_shares_expense_participant ON expense_shares(expense_id, participant_id, delete_yn);
@@ -0,0 +1,15 @@
+-- 배치 INSERT를 위한 테이블 기반 ID 할당 (블록 단위 50)
+CREATE TABLE id_sequences (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val BIGINT NOT NULL
+);
+
+-- 기존 AUTO_INCREMENT 값과 겹치지 않도록 현재 최대 ID 이후부터 시작
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'participants', COALESCE(MAX(id), 0) + 100 FROM participants;
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'expense_payments', COALESCE(MAX(id), 0) + 100 FROM expense_payments;
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'expense_shares', COALESCE(MAX(id), 0) + 100 FROM expense_shares;
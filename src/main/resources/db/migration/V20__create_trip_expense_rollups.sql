@@ -0,0 +1,49 @@
+-- 여행 통계 사전 집계 (여행, 카테고리, 일자, 동행자)
+-- participant_id = 0 행은 지출 단위 합계(총액, 지출 건수), 그 외는 동행자별 분배 합계
+-- 지출 생성/수정/삭제/정산완료 시 증분 갱신되어 통계 조회가 지출 수와 무관하게 동작
+CREATE TABLE trip_expense_rollups (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    trip_id BIGINT NOT NULL,
+    category VARCHAR(20) NOT NULL,
+    expense_date DATE NOT NULL,
+    participant_id BIGINT NOT NULL DEFAULT 0,
+    amount BIGINT NOT NULL DEFAULT 0,
+    expense_count BIGINT NOT NULL DEFAULT 0,
+    unsettled_amount BIGINT NOT NULL DEFAULT 0,
+    unsettled_count BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME(3) NOT NULL,
+    CONSTRAINT uk_trip_expense_rollups UNIQUE (trip_id, category, expense_date, participant_id),
+    CONSTRAINT fk_rollups_trip FOREIGN KEY (trip_id) REFERENCES trips(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 기존 지출 데이터로 백필 (삭제되지 않은 지출/분배만 반영)
+INSERT INTO trip_expense_rollups
+    (trip_id, category, expense_date, participant_id, amount, expense_count, unsettled_amount, unsettled_count, updated_at)
+SELECT e.trip_id,
+       e.category,
+       DATE(e.occurred_at),
+       0,
+       SUM(e.total_amount),
+       COUNT(*),
+       SUM(CASE WHEN e.settled_yn = 'N' THEN e.total_amount ELSE 0 END),
+       SUM(CASE WHEN e.settled_yn = 'N' THEN 1 ELSE 0 END),
+       NOW(3)
+FROM expenses e
+WHERE e.delete_yn = 'N'
+GROUP BY e.trip_id, e.category, DATE(e.occurred_at);
+
+INSERT INTO trip_expense_rollups
+    (trip_id, category, expense_date, participant_id, amount, expense_count, unsettled_amount, unsettled_count, updated_at)
+SELECT e.trip_id,
+       e.category,
+       DATE(e.occurred_at),
+       es.participant_id,
+       SUM(es.amount),
+       COUNT(DISTINCT e.id),
+       SUM(CASE WHEN e.settled_yn = 'N' THEN es.amount ELSE 0 END),
+       COUNT(DISTINCT CASE WHEN e.settled_yn = 'N' THEN e.id END),
+       NOW(3)
+FROM expense_shares es
+JOIN expenses e ON e.id = es.expense_id
+WHERE es.delete_yn = 'N' AND e.delete_yn = 'N'
+GROUP BY e.trip_id, e.category, DATE(e.occurred_at), es.participant_id;
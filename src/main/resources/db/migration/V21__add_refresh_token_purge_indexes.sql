@@ -0,0 +1,3 @@
+-- 만료/폐기된 refresh token 정리 작업용 (범위 조건 + LIMIT 삭제)
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens(expires_at);
+CREATE INDEX idx_refresh_tokens_revoked_at ON refresh_tokens(revoked_at);
@@ -0,0 +1,58 @@
+package com.whdgkr.tripsplite.config;
+
+import com.whdgkr.tripsplite.dto.ExpenseResponse;
+import com.whdgkr.tripsplite.dto.TripResponse;
+import com.whdgkr.tripsplite.repository.MemberRepository;
+import com.whdgkr.tripsplite.service.ExpenseService;
+import com.whdgkr.tripsplite.service.TripService;
+import com.whdgkr.tripsplite.support.TestTrips;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메인 풀 커넥션이 1개뿐이어도 ID 블록 할당이 요청 트랜잭션과 커넥션을 다투지 않는지 검증
+ * - 같은 풀에서 할당하면 트랜잭션이 쥔 커넥션 외에 하나가 더 필요하여 connection-timeout으로 실패함
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:idalloc;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.datasource.hikari.connection-timeout=1000",
+        "id-allocator.block-size=5"
+})
+@ActiveProfiles("test")
+@DirtiesContext
+class IdBlockAllocatorTest {
+
+    @Autowired
+    private TripService tripService;
+    @Autowired
+    private ExpenseService expenseService;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void allocatesBlocksWithoutSecondMainPoolConnection() {
+        // 소유자 포함 12명 - 블록 크기 5를 여러 번 넘김
+        TripResponse trip = TestTrips.createTrip(tripService, TestTrips.createMember(memberRepository).getId(), 11);
+        List<Long> participantIds = TestTrips.participantIds(trip);
+        assertThat(participantIds).hasSize(12).doesNotHaveDuplicates();
+
+        Map<Long, Integer> payments = Map.of(participantIds.get(0), 12_000);
+        Map<Long, Integer> shares = new LinkedHashMap<>();
+        participantIds.forEach(id -> shares.put(id, 1_000));
+        ExpenseResponse expense = expenseService.createExpense(trip.getId(),
+                TestTrips.expense("저녁", LocalDateTime.of(2025, 1, 2, 19, 0), "FOOD", 12_000, payments, shares));
+
+        assertThat(expense.getShares()).hasSize(12);
+    }
+}
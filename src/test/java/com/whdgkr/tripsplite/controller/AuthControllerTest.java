@@ -0,0 +1,65 @@
+package com.whdgkr.tripsplite.controller;
+
+import com.whdgkr.tripsplite.entity.Member;
+import com.whdgkr.tripsplite.repository.MemberRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 로그인 비밀번호 검증(BCrypt) 중에는 요청이 DB 커넥션을 잡고 있지 않아야 함 (open-in-view 비활성화)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private DataSource dataSource;
+    @SpyBean
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void loginReleasesConnectionBeforePasswordVerification() throws Exception {
+        memberRepository.save(Member.builder()
+                .loginId("poolcheck")
+                .passwordHash(passwordEncoder.encode("1234"))
+                .name("풀확인")
+                .email("poolcheck@test.local")
+                .build());
+
+        List<Integer> activeDuringVerify = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            activeDuringVerify.add(dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections());
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).matches(anyString(), anyString());
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"loginId\":\"poolcheck\",\"password\":\"1234\"}"))
+                .andExpect(status().isOk());
+
+        assertThat(activeDuringVerify).containsExactly(0);
+    }
+}
@@ -0,0 +1,40 @@
+package com.whdgkr.tripsplite.controller;
+
+import com.whdgkr.tripsplite.security.JwtProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * dev 유지보수 엔드포인트는 dev 프로필에서도 유효한 액세스 토큰이 있어야 실행
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "dev"})
+class DevMaintenanceControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Test
+    void maintenanceEndpointsRequireAccessToken() throws Exception {
+        for (String path : new String[]{"/api/dev/ledger/verify", "/api/dev/rollups/rebuild"}) {
+            int anonymous = mockMvc.perform(post(path)).andReturn().getResponse().getStatus();
+            assertThat(anonymous).as(path).isIn(401, 403);
+
+            mockMvc.perform(post(path)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtProvider.createAccessToken(1L, "admin")))
+                    .andExpect(status().isOk());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.whdgkr.tripsplite.repository;
+
+import com.whdgkr.tripsplite.dto.TripResponse;
+import com.whdgkr.tripsplite.entity.Member;
+import com.whdgkr.tripsplite.service.TripService;
+import com.whdgkr.tripsplite.support.TestTrips;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TripRepositoryTest {
+
+    @Autowired
+    private TripRepository tripRepository;
+    @Autowired
+    private TripService tripService;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void findMatchedTripIdsReturnsFriendTripsNewestFirstWithKeyset() {
+        Member me = TestTrips.createMember(memberRepository);
+        Member other = TestTrips.createMember(memberRepository);
+
+        // 내 여행에 friend@ 동행자 → friend@가 내 친구로 등록됨
+        TripResponse mine = TestTrips.createTripWithEmails(tripService, me.getId(), "friend7@test.local");
+        TripResponse shared1 = TestTrips.createTripWithEmails(tripService, other.getId(), "friend7@test.local");
+        TestTrips.createTripWithEmails(tripService, other.getId(), "stranger7@test.local");
+        TripResponse deleted = TestTrips.createTripWithEmails(tripService, other.getId(), "friend7@test.local");
+        TripResponse shared2 = TestTrips.createTripWithEmails(tripService, other.getId(), "friend7@test.local", "x7@test.local");
+        tripService.deleteTrip(deleted.getId());
+
+        List<Long> all = tripRepository.findMatchedTripIds(me.getId(), Long.MAX_VALUE, 10);
+        assertThat(all).containsExactly(shared2.getId(), shared1.getId(), mine.getId());
+
+        List<Long> firstPage = tripRepository.findMatchedTripIds(me.getId(), Long.MAX_VALUE, 2);
+        List<Long> secondPage = tripRepository.findMatchedTripIds(me.getId(), firstPage.get(1), 2);
+        assertThat(firstPage).containsExactly(shared2.getId(), shared1.getId());
+        assertThat(secondPage).containsExactly(mine.getId());
+    }
+
+    @Test
+    void matchedTripsEndpointReturnsFullListInAscendingIdOrder() {
+        Member me = TestTrips.createMember(memberRepository);
+        Member other = TestTrips.createMember(memberRepository);
+        TripResponse mine = TestTrips.createTripWithEmails(tripService, me.getId(), "friend8@test.local");
+
+        // 기존 계약: 페이지 크기(100)를 넘어도 전부, id 오름차순
+        List<Long> expected = new ArrayList<>(List.of(mine.getId()));
+        for (int i = 0; i < 105; i++) {
+            expected.add(TestTrips.createTripWithEmails(tripService, other.getId(), "friend8@test.local").getId());
+        }
+
+        assertThat(tripService.getMatchedTrips(me.getId()))
+                .extracting(TripResponse::getId)
+                .containsExactlyElementsOf(expected);
+    }
+}
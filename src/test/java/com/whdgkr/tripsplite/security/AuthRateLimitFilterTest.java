@@ -0,0 +1,111 @@
+package com.whdgkr.tripsplite.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.whdgkr.tripsplite.config.AuthRateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthRateLimitFilterTest {
+
+    private static final String LOGIN_PATH = "/api/auth/login";
+
+    @Test
+    void forwardedForFromUntrustedClientIsIgnored() throws Exception {
+        AuthRateLimitFilter filter = filter(List.of());
+
+        assertThat(login(filter, "203.0.113.7", "198.51.100.1", "{\"loginId\":\"a\"}").getStatus()).isEqualTo(200);
+        // 다른 X-Forwarded-For를 넣어도 같은 접속 주소로 제한
+        assertThat(login(filter, "203.0.113.7", "198.51.100.2", "{\"loginId\":\"b\"}").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void forwardedForFromTrustedProxyIdentifiesClient() throws Exception {
+        AuthRateLimitFilter filter = filter(List.of("10.0.0.0/8"));
+
+        assertThat(login(filter, "10.0.0.5", "198.51.100.1", "{\"loginId\":\"a\"}").getStatus()).isEqualTo(200);
+        assertThat(login(filter, "10.0.0.5", "198.51.100.2", "{\"loginId\":\"b\"}").getStatus()).isEqualTo(200);
+        // 클라이언트가 앞에 붙인 주소가 아니라 프록시가 추가한 (가장 오른쪽 비신뢰) 주소 기준
+        assertThat(login(filter, "10.0.0.5", "192.0.2.99, 198.51.100.1", "{\"loginId\":\"c\"}").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void oversizedOrUnknownLengthBodyIsCappedBeforeLoginIdCheck() throws Exception {
+        AuthRateLimitFilter filter = filter(List.of());
+        String large = "{\"loginId\":\"a\",\"pad\":\"" + "x".repeat(200) + "\"}";
+
+        assertThat(login(filter, "203.0.113.1", null, large).getStatus()).isEqualTo(413);
+
+        MockHttpServletRequest chunked = request("203.0.113.2", null, large);
+        HttpServletRequest unknownLength = new HttpServletRequestWrapper(chunked) {
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(unknownLength, response, new MockFilterChain());
+        assertThat(response.getStatus()).isEqualTo(413);
+    }
+
+    @Test
+    void loginIdLimitAppliesAndBodyIsReplayedToController() throws Exception {
+        AuthRateLimitFilter filter = filter(List.of());
+        String body = "{\"loginId\":\"Same\"}";
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(request("203.0.113.10", null, body), first, chain);
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(body);
+
+        // 다른 IP에서도 같은 loginId(대소문자 무시)는 제한
+        assertThat(login(filter, "203.0.113.11", null, "{\"loginId\":\"same\"}").getStatus()).isEqualTo(429);
+    }
+
+    private static AuthRateLimitFilter filter(List<String> trustedProxies) {
+        AuthRateLimitProperties properties = new AuthRateLimitProperties();
+        properties.setMaxBodyBytes(64);
+        properties.setTrustedProxies(trustedProxies);
+        AuthRateLimitProperties.Route route = new AuthRateLimitProperties.Route();
+        route.setPath(LOGIN_PATH);
+        route.getIp().setCapacity(1);
+        route.getIp().setRefillPerMinute(0.001);
+        route.getLoginId().setCapacity(1);
+        route.getLoginId().setRefillPerMinute(0.001);
+        properties.getRoutes().put("login", route);
+        return new AuthRateLimitFilter(properties, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    private static MockHttpServletResponse login(AuthRateLimitFilter filter, String remoteAddr, String forwardedFor,
+                                                 String body) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(remoteAddr, forwardedFor, body), response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", LOGIN_PATH);
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
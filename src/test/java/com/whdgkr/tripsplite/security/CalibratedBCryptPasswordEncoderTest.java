@@ -0,0 +1,21 @@
+package com.whdgkr.tripsplite.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalibratedBCryptPasswordEncoderTest {
+
+    @Test
+    void rehashesHashesWithDifferentCost() {
+        String cost4 = new CalibratedBCryptPasswordEncoder(4).encode("password");
+        String cost6 = new CalibratedBCryptPasswordEncoder(6).encode("password");
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(5);
+
+        assertThat(encoder.upgradeEncoding(cost4)).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("password"))).isFalse();
+        // 작은 인스턴스에서는 기존 고비용 해시도 현재 cost로 낮춤
+        assertThat(encoder.upgradeEncoding(cost6)).isTrue();
+        assertThat(encoder.upgradeEncoding("{noop}password")).isFalse();
+    }
+}
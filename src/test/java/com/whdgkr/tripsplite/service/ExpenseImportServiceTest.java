@@ -0,0 +1,127 @@
+package com.whdgkr.tripsplite.service;
+
+import com.whdgkr.tripsplite.dto.ExpenseImportResponse;
+import com.whdgkr.tripsplite.dto.ExpenseResponse;
+import com.whdgkr.tripsplite.dto.TripResponse;
+import com.whdgkr.tripsplite.repository.MemberRepository;
+import com.whdgkr.tripsplite.support.TestTrips;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * 지출 일괄 등록의 파싱/검증/chunk 저장 경로 검증
+ * - 컬럼 제약 위반과 너무 긴 행은 검증 단계에서 해당 행만 실패
+ * - 저장 중 실패한 chunk는 행 단위로 다시 저장되어 나머지 행은 등록됨
+ */
+@SpringBootTest(properties = {
+        "expense-import.chunk-size=3",
+        "expense-import.max-line-length=1000"
+})
+@ActiveProfiles("test")
+class ExpenseImportServiceTest {
+
+    @Autowired
+    private ExpenseImportService expenseImportService;
+    @Autowired
+    private BalanceLedgerService balanceLedgerService;
+    @Autowired
+    private TripService tripService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @SpyBean
+    private ExpenseService expenseService;
+
+    @Test
+    void csvRowsAreValidatedPerColumnAndSavedInChunks() throws IOException {
+        TripResponse trip = TestTrips.createTrip(tripService, TestTrips.createMember(memberRepository).getId(), 1);
+        List<Long> ids = TestTrips.participantIds(trip);
+        String pay = ids.get(0) + ":10000";
+        String split = ids.get(0) + ":5000;" + ids.get(1) + ":5000";
+
+        String csv = String.join("\r\n",
+                "title,occurredAt,totalAmount,currency,category,payments,shares",
+                "점심,2025-01-01T12:00:00,10000,,FOOD," + pay + "," + split,
+                "\"택시, 공항\",2025-01-01T18:00:00,10000,KRW,TRANSPORTATION," + pay + "," + split,
+                "\"\"\"호텔\"\"\",2025-01-02T15:00:00,10000,,ACCOMMODATION," + pay + "," + split,
+                ",2025-01-02T19:00:00,10000,,," + pay + "," + split,
+                "가".repeat(121) + ",2025-01-03T12:00:00,10000,,," + pay + "," + split,
+                "환전,2025-01-03T13:00:00,10000,KRWX,," + pay + "," + split,
+                "",
+                "저녁,2025-01-03T19:00:00,10000,,FOOD," + pay + "," + split,
+                "메모" + "x".repeat(1000) + ",2025-01-04T09:00:00,10000,,," + pay + "," + split,
+                "기념품,2025-01-04T12:00:00,10000,,SHOPPING," + pay + "," + split,
+                "커피,2025-01-04T15:00:00,10000,,FOOD,999999:10000," + split,
+                "아침,2025-01-05T08:00:00,10000,,FOOD," + pay + "," + split);
+
+        ExpenseImportResponse response = importCsv(trip.getId(), csv);
+
+        assertThat(errorsByLine(response)).containsOnlyKeys(5, 6, 7, 10, 12)
+                .containsEntry(5, "제목이 필요합니다")
+                .containsEntry(6, "제목은 120자 이하여야 합니다")
+                .containsEntry(7, "통화 코드는 3자여야 합니다")
+                .containsEntry(10, "행이 너무 깁니다 (최대 1000자)");
+        assertThat(response.getTotalRows()).isEqualTo(11);
+        assertThat(response.getImportedRows()).isEqualTo(6);
+        assertThat(response.getChunks()).isEqualTo(2);
+        assertThat(expenseService.getExpensesByTripId(trip.getId()))
+                .extracting(ExpenseResponse::getTitle)
+                .containsExactlyInAnyOrder("점심", "택시, 공항", "\"호텔\"", "저녁", "기념품", "아침");
+        assertThat(balanceLedgerService.verifyTrip(trip.getId(), false).getDrifts()).isEmpty();
+    }
+
+    @Test
+    void failedChunkIsRetriedRowByRow() throws IOException {
+        TripResponse trip = TestTrips.createTrip(tripService, TestTrips.createMember(memberRepository).getId(), 1);
+        List<Long> ids = TestTrips.participantIds(trip);
+        doThrow(new IllegalStateException("저장 불가"))
+                .when(expenseService).buildExpense(any(), argThat(r -> "실패".equals(r.getTitle())), any());
+
+        StringBuilder ndjson = new StringBuilder();
+        for (String title : List.of("하나", "실패", "셋", "넷", "다섯")) {
+            ndjson.append("{\"title\":\"").append(title).append("\",\"occurredAt\":\"2025-01-01T12:00:00\",")
+                    .append("\"totalAmount\":6000,\"category\":\"FOOD\",")
+                    .append("\"payments\":[{\"participantId\":").append(ids.get(1)).append(",\"amount\":6000}],")
+                    .append("\"shares\":[{\"participantId\":").append(ids.get(0)).append(",\"amount\":3000},")
+                    .append("{\"participantId\":").append(ids.get(1)).append(",\"amount\":3000}]}\n");
+        }
+        ndjson.append("{\"title\":\"깨진 행\"\n");
+
+        ExpenseImportResponse response = expenseImportService.importExpenses(trip.getId(), ExpenseImportService.FORMAT_NDJSON,
+                new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(errorsByLine(response)).containsOnlyKeys(2, 6);
+        assertThat(errorsByLine(response).get(2)).startsWith("저장 실패");
+        assertThat(response.getImportedRows()).isEqualTo(4);
+        assertThat(response.getChunks()).isEqualTo(2);
+        assertThat(expenseService.getExpensesByTripId(trip.getId()))
+                .extracting(ExpenseResponse::getTitle)
+                .containsExactlyInAnyOrder("하나", "셋", "넷", "다섯");
+        assertThat(balanceLedgerService.readTotals(trip.getId(), false).get(ids.get(1)))
+                .isEqualTo(new BalanceLedgerService.Totals(24_000, 12_000));
+    }
+
+    private ExpenseImportResponse importCsv(Long tripId, String csv) throws IOException {
+        return expenseImportService.importExpenses(tripId, ExpenseImportService.FORMAT_CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static Map<Integer, String> errorsByLine(ExpenseImportResponse response) {
+        return response.getErrors().stream().collect(Collectors.toMap(
+                ExpenseImportResponse.RowError::getLine, ExpenseImportResponse.RowError::getMessage));
+    }
+}
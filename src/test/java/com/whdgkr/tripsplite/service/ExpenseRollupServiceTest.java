@@ -0,0 +1,117 @@
+package com.whdgkr.tripsplite.service;
+
+import com.whdgkr.tripsplite.dto.ExpenseResponse;
+import com.whdgkr.tripsplite.dto.TripResponse;
+import com.whdgkr.tripsplite.repository.*;
+import com.whdgkr.tripsplite.support.TestTrips;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사전 집계(ROLLUP)가 생성/수정/정산완료/삭제 전환마다 원본 집계(AGGREGATE)와 같은지 검증
+ * - 증분으로 쌓인 행이 원본 기준 재생성 결과와도 같은지 확인 (미정산 합계/건수 포함)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ExpenseRollupServiceTest {
+
+    @Autowired
+    private ExpenseRollupService expenseRollupService;
+    @Autowired
+    private ExpenseService expenseService;
+    @Autowired
+    private TripService tripService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TripExpenseRollupRepository rollupRepository;
+    @Autowired
+    private ExpenseRepository expenseRepository;
+    @Autowired
+    private ExpenseShareRepository expenseShareRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rollupMatchesAggregateAfterEveryTransition() {
+        TripResponse trip = TestTrips.createTrip(tripService, TestTrips.createMember(memberRepository).getId(), 5);
+        Long tripId = trip.getId();
+        List<Long> participantIds = TestTrips.participantIds(trip);
+        Random random = new Random(20250301L);
+
+        List<Long> expenseIds = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            ExpenseResponse created = expenseService.createExpense(tripId, TestTrips.randomExpense(random, participantIds, i));
+            expenseIds.add(created.getId());
+        }
+        assertMatchesAggregate(tripId, "create");
+
+        // 금액/분배 대상/카테고리/일자가 모두 바뀔 수 있는 수정
+        for (int i = 0; i < 15; i++) {
+            expenseService.updateExpense(expenseIds.get(random.nextInt(expenseIds.size())),
+                    TestTrips.randomExpense(random, participantIds, random.nextInt(10)));
+        }
+        assertMatchesAggregate(tripId, "update");
+
+        for (int i = 0; i < 10; i++) {
+            expenseService.updateSettledStatus(expenseIds.get(i * 4), true);
+        }
+        expenseService.updateSettledStatus(expenseIds.get(4), false);
+        assertMatchesAggregate(tripId, "settle");
+
+        for (int i = 0; i < 8; i++) {
+            expenseService.deleteExpense(expenseIds.get(20 + i));
+        }
+        assertMatchesAggregate(tripId, "delete");
+
+        Map<String, List<Long>> incremental = rollupRows(tripId);
+        expenseRollupService.rebuildTrip(tripId);
+        assertThat(rollupRows(tripId)).containsExactlyInAnyOrderEntriesOf(incremental);
+    }
+
+    private void assertMatchesAggregate(Long tripId, String phase) {
+        assertThat(categories(rollupRepository.sumByCategory(tripId)))
+                .as("category totals after %s", phase)
+                .containsExactlyInAnyOrderEntriesOf(categories(expenseRepository.sumActiveAmountsByCategory(tripId)));
+        assertThat(days(rollupRepository.sumByDay(tripId)))
+                .as("daily totals after %s", phase)
+                .containsExactlyInAnyOrderEntriesOf(days(expenseRepository.sumActiveAmountsByDay(tripId)));
+        assertThat(participants(rollupRepository.sumByParticipant(tripId)))
+                .as("participant totals after %s", phase)
+                .containsExactlyInAnyOrderEntriesOf(participants(expenseShareRepository.sumActiveSpendByParticipant(tripId)));
+    }
+
+    private static Map<String, List<Long>> categories(List<CategoryAmountTotal> totals) {
+        return totals.stream().filter(t -> t.getExpenseCount() > 0).collect(Collectors.toMap(
+                t -> t.getCategory().name(), t -> List.of(t.getTotal(), t.getExpenseCount())));
+    }
+
+    private static Map<String, List<Long>> days(List<DailyAmountTotal> totals) {
+        return totals.stream().filter(t -> t.getExpenseCount() > 0).collect(Collectors.toMap(
+                t -> t.getDay().toString(), t -> List.of(t.getTotal(), t.getExpenseCount())));
+    }
+
+    private static Map<Long, Long> participants(List<ParticipantSpendTotal> totals) {
+        return totals.stream().collect(Collectors.toMap(ParticipantSpendTotal::getParticipantId, ParticipantSpendTotal::getTotal));
+    }
+
+    // 값이 모두 0인 행(삭제/이동으로 비워진 키)은 재생성 시 만들어지지 않으므로 제외
+    private Map<String, List<Long>> rollupRows(Long tripId) {
+        Map<String, List<Long>> rows = new HashMap<>();
+        jdbcTemplate.query("SELECT category, expense_date, participant_id, amount, expense_count, unsettled_amount, unsettled_count "
+                + "FROM trip_expense_rollups WHERE trip_id = ? "
+                + "AND (amount <> 0 OR expense_count <> 0 OR unsettled_amount <> 0 OR unsettled_count <> 0)", rs -> {
+            rows.put(rs.getString(1) + "/" + rs.getDate(2) + "/" + rs.getLong(3),
+                    List.of(rs.getLong(4), rs.getLong(5), rs.getLong(6), rs.getLong(7)));
+        }, tripId);
+        return rows;
+    }
+}
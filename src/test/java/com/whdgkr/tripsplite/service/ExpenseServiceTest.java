@@ -0,0 +1,75 @@
+package com.whdgkr.tripsplite.service;
+
+import com.whdgkr.tripsplite.dto.ExpenseRequest;
+import com.whdgkr.tripsplite.dto.ExpenseResponse;
+import com.whdgkr.tripsplite.dto.TripResponse;
+import com.whdgkr.tripsplite.repository.MemberRepository;
+import com.whdgkr.tripsplite.support.TestTrips;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 같은 동행자가 요청에 여러 번 오면 등록/수정 모두 금액을 합산한 한 행으로 저장되는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ExpenseServiceTest {
+
+    @Autowired
+    private ExpenseService expenseService;
+    @Autowired
+    private BalanceLedgerService balanceLedgerService;
+    @Autowired
+    private TripService tripService;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void duplicateParticipantsAreMergedOnCreateAndUpdate() {
+        TripResponse trip = TestTrips.createTrip(tripService, TestTrips.createMember(memberRepository).getId(), 1);
+        List<Long> ids = TestTrips.participantIds(trip);
+        Long a = ids.get(0);
+        Long b = ids.get(1);
+
+        ExpenseRequest request = TestTrips.expense("저녁", LocalDateTime.of(2025, 1, 1, 19, 0), "FOOD", 9_000,
+                Map.of(a, 9_000), Map.of(a, 3_000, b, 3_000));
+        ExpenseRequest.PaymentItem payment = new ExpenseRequest.PaymentItem();
+        payment.setParticipantId(a);
+        payment.setAmount(1_000);
+        request.getPayments().add(payment);
+        request.getPayments().get(0).setAmount(8_000);
+        ExpenseRequest.ShareItem share = new ExpenseRequest.ShareItem();
+        share.setParticipantId(b);
+        share.setAmount(3_000);
+        request.getShares().add(share);
+
+        ExpenseResponse created = expenseService.createExpense(trip.getId(), request);
+        assertMerged(created, a, b);
+
+        ExpenseResponse updated = expenseService.updateExpense(created.getId(), request);
+        assertMerged(updated, a, b);
+
+        assertThat(balanceLedgerService.readTotals(trip.getId(), false))
+                .containsEntry(a, new BalanceLedgerService.Totals(9_000, 3_000))
+                .containsEntry(b, new BalanceLedgerService.Totals(0, 6_000));
+        assertThat(balanceLedgerService.verifyTrip(trip.getId(), false).getDrifts()).isEmpty();
+    }
+
+    private static void assertMerged(ExpenseResponse expense, Long a, Long b) {
+        assertThat(expense.getPayments())
+                .extracting(ExpenseResponse.PaymentDetail::getParticipantId, ExpenseResponse.PaymentDetail::getAmount)
+                .containsExactly(tuple(a, 9_000));
+        assertThat(expense.getShares())
+                .extracting(ExpenseResponse.ShareDetail::getParticipantId, ExpenseResponse.ShareDetail::getAmount)
+                .containsExactlyInAnyOrder(tuple(a, 3_000), tuple(b, 6_000));
+    }
+}
@@ -0,0 +1,78 @@
+package com.whdgkr.tripsplite.service;
+
+import com.whdgkr.tripsplite.config.RetryAfterException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RequestCoalescerTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final TripVersionService tripVersionService = mock(TripVersionService.class);
+    private final AtomicLong version = new AtomicLong(1);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void requestAfterCommittedWriteDoesNotJoinOlderLoad() throws Exception {
+        when(tripVersionService.currentVersion(anyLong())).thenAnswer(invocation -> version.get());
+        RequestCoalescer coalescer = new RequestCoalescer(tripVersionService, new SimpleMeterRegistry(), 5_000, 1);
+
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> coalescer.execute("trip-detail", 1L, "", () -> {
+            leaderStarted.countDown();
+            await(releaseLeader);
+            return "before-write";
+        }));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 변경 커밋으로 버전 증가 → 이후 요청은 새로 계산
+        version.incrementAndGet();
+        String afterWrite = coalescer.execute("trip-detail", 1L, "", () -> "after-write");
+
+        releaseLeader.countDown();
+        assertThat(afterWrite).isEqualTo("after-write");
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("before-write");
+    }
+
+    @Test
+    void followerGivesUpWhenLeaderIsStuck() throws Exception {
+        when(tripVersionService.currentVersion(anyLong())).thenReturn(1L);
+        RequestCoalescer coalescer = new RequestCoalescer(tripVersionService, new SimpleMeterRegistry(), 100, 2);
+
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        executor.submit(() -> coalescer.execute("statistics", 1L, "", () -> {
+            leaderStarted.countDown();
+            await(releaseLeader);
+            return "late";
+        }));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> coalescer.execute("statistics", 1L, "", () -> "follower-never-runs"))
+                .isInstanceOf(RetryAfterException.class)
+                .satisfies(e -> assertThat(((RetryAfterException) e).getRetryAfterSeconds()).isEqualTo(2));
+        releaseLeader.countDown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.whdgkr.tripsplite.service;
+
+import com.whdgkr.tripsplite.dto.ExpenseResponse;
+import com.whdgkr.tripsplite.dto.SettlementResponse;
+import com.whdgkr.tripsplite.dto.TripResponse;
+import com.whdgkr.tripsplite.entity.*;
+import com.whdgkr.tripsplite.repository.MemberRepository;
+import com.whdgkr.tripsplite.repository.TripRepository;
+import com.whdgkr.tripsplite.support.TestTrips;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 원장(LEDGER)/SQL 집계(AGGREGATE) 경로가 기존 엔티티 순회 계산과 같은 결과를 내는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SettlementServiceTest {
+
+    @Autowired
+    private SettlementService settlementService;
+    @Autowired
+    private BalanceLedgerService balanceLedgerService;
+    @Autowired
+    private ExpenseService expenseService;
+    @Autowired
+    private TripService tripService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TripRepository tripRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void ledgerAndAggregateMatchInMemoryTraversal() {
+        Member member = TestTrips.createMember(memberRepository);
+        TripResponse trip = TestTrips.createTrip(tripService, member.getId(), 5);
+        List<Long> participantIds = TestTrips.participantIds(trip);
+        Random random = new Random(20250101L);
+
+        // 생성 / 수정 / 삭제 / 정산 완료 전환을 섞어서 적용
+        List<Long> expenseIds = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            ExpenseResponse created = expenseService.createExpense(trip.getId(),
+                    TestTrips.randomExpense(random, participantIds, i));
+            expenseIds.add(created.getId());
+        }
+        for (int i = 0; i < 15; i++) {
+            Long expenseId = expenseIds.get(random.nextInt(expenseIds.size()));
+            expenseService.updateExpense(expenseId, TestTrips.randomExpense(random, participantIds, i));
+        }
+        for (int i = 0; i < 10; i++) {
+            expenseService.updateSettledStatus(expenseIds.get(i * 3), true);
+        }
+        expenseService.updateSettledStatus(expenseIds.get(3), false);
+        for (int i = 0; i < 6; i++) {
+            expenseService.deleteExpense(expenseIds.get(40 + i));
+        }
+
+        for (String scope : List.of("ALL", "UNSETTLED")) {
+            boolean unsettledOnly = "UNSETTLED".equals(scope);
+            Map<Long, long[]> expected = traverse(trip.getId(), unsettledOnly);
+            assertThat(expected).isNotEmpty();
+
+            assertThat(toArrays(balanceLedgerService.readTotals(trip.getId(), unsettledOnly)))
+                    .as("ledger totals, scope=%s", scope)
+                    .containsExactlyInAnyOrderEntriesOf(expected);
+            assertThat(toArrays(balanceLedgerService.readSourceTotals(trip.getId(), unsettledOnly)))
+                    .as("aggregate totals, scope=%s", scope)
+                    .containsExactlyInAnyOrderEntriesOf(expected);
+
+            SettlementResponse settlement = settlementService.calculateSettlement(trip.getId(), scope);
+            assertThat(settlement.getTotalExpense()).isEqualTo(traverseTotalExpense(trip.getId(), unsettledOnly));
+            for (SettlementResponse.ParticipantBalance balance : settlement.getBalances()) {
+                long[] totals = expected.getOrDefault(balance.getParticipantId(), new long[2]);
+                assertThat(balance.getPaidTotal()).isEqualTo((int) totals[0]);
+                assertThat(balance.getShareTotal()).isEqualTo((int) totals[1]);
+            }
+        }
+
+        assertThat(balanceLedgerService.verifyTrip(trip.getId(), false).getDrifts()).isEmpty();
+    }
+
+    // 기존 SettlementService 계산 방식: 여행 → 지출 → 결제/분배 엔티티 순회
+    private Map<Long, long[]> traverse(Long tripId, boolean unsettledOnly) {
+        return transactionTemplate.execute(status -> {
+            Trip trip = tripRepository.findById(tripId).orElseThrow();
+            Map<Long, long[]> totals = new HashMap<>();
+            for (Expense expense : trip.getExpenses()) {
+                if (expense.isDeleted() || (unsettledOnly && expense.isSettled())) {
+                    continue;
+                }
+                for (ExpensePayment payment : expense.getPayments()) {
+                    if ("N".equals(payment.getDeleteYn())) {
+                        totals.computeIfAbsent(payment.getParticipant().getId(), k -> new long[2])[0] += payment.getAmount();
+                    }
+                }
+                for (ExpenseShare share : expense.getShares()) {
+                    if ("N".equals(share.getDeleteYn())) {
+                        totals.computeIfAbsent(share.getParticipant().getId(), k -> new long[2])[1] += share.getAmount();
+                    }
+                }
+            }
+            totals.values().removeIf(t -> t[0] == 0 && t[1] == 0);
+            return totals;
+        });
+    }
+
+    private int traverseTotalExpense(Long tripId, boolean unsettledOnly) {
+        return transactionTemplate.execute(status -> tripRepository.findById(tripId).orElseThrow()
+                .getExpenses().stream()
+                .filter(e -> e.isActive() && (!unsettledOnly || e.isUnsettled()))
+                .mapToInt(Expense::getTotalAmount)
+                .sum());
+    }
+
+    // 합계가 0인 동행자는 원장에 행이 남아있을 수 있으므로 비교에서 제외
+    private Map<Long, long[]> toArrays(Map<Long, BalanceLedgerService.Totals> totals) {
+        return totals.entrySet().stream()
+                .filter(e -> e.getValue().paid() != 0 || e.getValue().share() != 0)
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> new long[]{e.getValue().paid(), e.getValue().share()}));
+    }
+}
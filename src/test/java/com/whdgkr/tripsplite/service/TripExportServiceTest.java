@@ -0,0 +1,192 @@
+package com.whdgkr.tripsplite.service;
+
+import com.whdgkr.tripsplite.config.RetryAfterException;
+import com.whdgkr.tripsplite.dto.TripResponse;
+import com.whdgkr.tripsplite.repository.MemberRepository;
+import com.whdgkr.tripsplite.support.TestTrips;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 10만 건 지출 CSV 내보내기가 행 수에 비례해 힙을 점유하지 않는지, 동시 실행 수 제한이 동작하는지 검증
+ * - H2가 정렬 결과를 메모리에 올리는 행 수를 제한하여 드라이버 버퍼링이 측정값에 섞이지 않도록 함
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:export;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE;DB_CLOSE_DELAY=-1;MAX_MEMORY_ROWS=10000",
+        "settlement.balance-source=AGGREGATE",
+        "trip-export.max-concurrent=1"
+})
+@ActiveProfiles("test")
+@DirtiesContext
+class TripExportServiceTest {
+
+    private static final int EXPENSES = 100_000;
+    private static final int AMOUNT = 10_000;
+    // 제목만으로 출력이 약 20MB(UTF-16) - 출력이나 행을 모아두면 이 한도를 넘음
+    private static final String TITLE_PREFIX = "지출".repeat(45);
+    private static final long MAX_RETAINED_BYTES = 24L * 1024 * 1024;
+
+    @Autowired
+    private TripExportService tripExportService;
+    @Autowired
+    private TripService tripService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void exportOfHundredThousandExpensesKeepsHeapBounded() throws IOException {
+        TripResponse trip = TestTrips.createTrip(tripService, TestTrips.createMember(memberRepository).getId(), 1);
+        List<Long> participantIds = TestTrips.participantIds(trip);
+        insertExpenses(trip.getId(), participantIds.get(0), participantIds.get(1));
+
+        // 지출/결제/분배 각 10만 행 + 섹션 헤더 이후의 정산 요약만 보관
+        HeapSamplingWriter out = new HeapSamplingWriter(3 * EXPENSES, 50_000);
+        long baseline = usedHeapAfterGc();
+        tripExportService.writeCsv(trip.getId(), "ALL", out);
+
+        assertThat(out.lines).isGreaterThan(3L * EXPENSES);
+        assertThat(out.maxUsedHeap - baseline)
+                .as("retained heap while streaming %d rows", 3 * EXPENSES)
+                .isLessThan(MAX_RETAINED_BYTES);
+        // 정산 요약도 같은 트랜잭션에서 원본 테이블 기준으로 계산됨
+        assertThat(out.tail.toString())
+                .contains("ALL," + EXPENSES * AMOUNT + ",")
+                .containsPattern(participantIds.get(0) + ",[^,]*," + EXPENSES * AMOUNT + "," + EXPENSES * AMOUNT / 2 + "," + EXPENSES * AMOUNT / 2)
+                .containsPattern(participantIds.get(1) + ",[^,]*,0," + EXPENSES * AMOUNT / 2 + ",-" + EXPENSES * AMOUNT / 2);
+    }
+
+    @Test
+    void concurrentExportBeyondLimitIsRejected() throws Exception {
+        TripResponse trip = TestTrips.createTrip(tripService, TestTrips.createMember(memberRepository).getId(), 1);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Writer blocking = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) {
+                writing.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> first = executor.submit(() -> {
+                tripExportService.writeCsv(trip.getId(), "ALL", blocking);
+                return null;
+            });
+            assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> tripExportService.writeCsv(trip.getId(), "ALL", Writer.nullWriter()))
+                    .isInstanceOf(RetryAfterException.class);
+
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            tripExportService.writeCsv(trip.getId(), "ALL", Writer.nullWriter());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 지출마다 결제 1건(첫 동행자), 분배 2건(반씩)으로 직접 적재
+     */
+    private void insertExpenses(Long tripId, Long payerId, Long otherId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+        long baseId = 1_000_000L;
+        int chunk = 10_000;
+        for (int from = 0; from < EXPENSES; from += chunk) {
+            List<Object[]> expenses = new ArrayList<>(chunk);
+            List<Object[]> payments = new ArrayList<>(chunk);
+            List<Object[]> shares = new ArrayList<>(chunk * 2);
+            for (int i = from; i < from + chunk; i++) {
+                long expenseId = baseId + i;
+                expenses.add(new Object[]{expenseId, tripId, TITLE_PREFIX + i, Timestamp.valueOf(start.plusMinutes(i)), AMOUNT, now});
+                payments.add(new Object[]{expenseId, expenseId, payerId, AMOUNT});
+                shares.add(new Object[]{expenseId * 2, expenseId, payerId, AMOUNT / 2});
+                shares.add(new Object[]{expenseId * 2 + 1, expenseId, otherId, AMOUNT / 2});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO expenses (id, trip_id, title, occurred_at, total_amount, currency, category, "
+                    + "delete_yn, settled_yn, created_at) VALUES (?, ?, ?, ?, ?, 'KRW', 'FOOD', 'N', 'N', ?)", expenses);
+            jdbcTemplate.batchUpdate("INSERT INTO expense_payments (id, expense_id, participant_id, amount, delete_yn) "
+                    + "VALUES (?, ?, ?, ?, 'N')", payments);
+            jdbcTemplate.batchUpdate("INSERT INTO expense_shares (id, expense_id, participant_id, amount, delete_yn) "
+                    + "VALUES (?, ?, ?, ?, 'N')", shares);
+        }
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * 출력은 버리고 줄 수만 세며, 일정 줄마다 GC 후 힙 사용량을 기록
+     */
+    private static final class HeapSamplingWriter extends Writer {
+
+        private final long tailAfterLines;
+        private final long sampleEveryLines;
+        private final StringBuilder tail = new StringBuilder();
+        private long lines;
+        private long maxUsedHeap;
+
+        private HeapSamplingWriter(long tailAfterLines, long sampleEveryLines) {
+            this.tailAfterLines = tailAfterLines;
+            this.sampleEveryLines = sampleEveryLines;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                if (lines >= tailAfterLines) {
+                    tail.append(cbuf[i]);
+                }
+                if (cbuf[i] == '\n' && ++lines % sampleEveryLines == 0) {
+                    maxUsedHeap = Math.max(maxUsedHeap, usedHeapAfterGc());
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
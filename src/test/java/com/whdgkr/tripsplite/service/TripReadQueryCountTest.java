@@ -0,0 +1,87 @@
+package com.whdgkr.tripsplite.service;
+
+import com.whdgkr.tripsplite.dto.TripResponse;
+import com.whdgkr.tripsplite.entity.Member;
+import com.whdgkr.tripsplite.repository.MemberRepository;
+import com.whdgkr.tripsplite.support.TestTrips;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여행 상세/정산/통계 조회의 SQL 실행 횟수가 지출 수와 무관하게 고정되는지 검증
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class TripReadQueryCountTest {
+
+    // 상세: 여행+동행자, 지출, 결제, 분배 / 정산: 버전, 동행자, 원장, 총액 / 통계: 버전, 카테고리, 일자, 동행자
+    private static final long MAX_STATEMENTS_PER_READ = 4;
+
+    @Autowired
+    private TripService tripService;
+    @Autowired
+    private SettlementService settlementService;
+    @Autowired
+    private StatisticsService statisticsService;
+    @Autowired
+    private ExpenseService expenseService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithExpenseCount() {
+        Long smallTrip = createTripWithExpenses(3);
+        Long largeTrip = createTripWithExpenses(120);
+
+        for (String read : List.of("detail", "settlement", "statistics")) {
+            long small = statementsFor(read, smallTrip);
+            long large = statementsFor(read, largeTrip);
+
+            assertThat(large).as("%s statements (3 vs 120 expenses)", read).isEqualTo(small);
+            assertThat(large).as("%s statements", read).isLessThanOrEqualTo(MAX_STATEMENTS_PER_READ);
+        }
+    }
+
+    private long statementsFor(String read, Long tripId) {
+        Supplier<Object> call = switch (read) {
+            case "detail" -> () -> tripService.getTripById(tripId);
+            case "settlement" -> () -> settlementService.calculateSettlement(tripId, "ALL");
+            default -> () -> statisticsService.getTripStatistics(tripId);
+        };
+        statistics.clear();
+        call.get();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long createTripWithExpenses(int expenseCount) {
+        Member member = TestTrips.createMember(memberRepository);
+        TripResponse trip = TestTrips.createTrip(tripService, member.getId(), 6);
+        List<Long> participantIds = TestTrips.participantIds(trip);
+        Random random = new Random(expenseCount);
+        for (int i = 0; i < expenseCount; i++) {
+            expenseService.createExpense(trip.getId(), TestTrips.randomExpense(random, participantIds, i));
+        }
+        return trip.getId();
+    }
+}
@@ -0,0 +1,137 @@
+package com.whdgkr.tripsplite.support;
+
+import com.whdgkr.tripsplite.dto.ExpenseRequest;
+import com.whdgkr.tripsplite.dto.ParticipantResponse;
+import com.whdgkr.tripsplite.dto.TripRequest;
+import com.whdgkr.tripsplite.dto.TripResponse;
+import com.whdgkr.tripsplite.entity.Member;
+import com.whdgkr.tripsplite.repository.MemberRepository;
+import com.whdgkr.tripsplite.service.TripService;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 회원/여행/지출 요청 생성
+ */
+public final class TestTrips {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private TestTrips() {
+    }
+
+    public static Member createMember(MemberRepository memberRepository) {
+        int n = SEQUENCE.incrementAndGet();
+        return memberRepository.save(Member.builder()
+                .loginId("member" + n)
+                .passwordHash("{noop}password")
+                .name("회원" + n)
+                .email("member" + n + "@test.local")
+                .build());
+    }
+
+    /**
+     * 소유자 + 동행자 otherParticipants명으로 여행 생성
+     */
+    public static TripResponse createTrip(TripService tripService, Long memberId, int otherParticipants) {
+        TripRequest request = new TripRequest();
+        request.setTitle("여행" + SEQUENCE.incrementAndGet());
+        request.setStartDate("2025-01-01");
+        request.setEndDate("2025-01-10");
+
+        List<TripRequest.ParticipantInfo> participants = new ArrayList<>();
+        for (int i = 0; i < otherParticipants; i++) {
+            TripRequest.ParticipantInfo info = new TripRequest.ParticipantInfo();
+            info.setName("동행자" + i);
+            info.setEmail("p" + SEQUENCE.incrementAndGet() + "@test.local");
+            participants.add(info);
+        }
+        request.setParticipants(participants);
+        return tripService.createTrip(memberId, request);
+    }
+
+    /**
+     * 소유자 + 지정한 이메일의 동행자로 여행 생성 (동행자는 소유자의 친구로 자동 등록됨)
+     */
+    public static TripResponse createTripWithEmails(TripService tripService, Long memberId, String... emails) {
+        TripRequest request = new TripRequest();
+        request.setTitle("여행" + SEQUENCE.incrementAndGet());
+        request.setStartDate("2025-01-01");
+        request.setEndDate("2025-01-10");
+
+        List<TripRequest.ParticipantInfo> participants = new ArrayList<>();
+        for (String email : emails) {
+            TripRequest.ParticipantInfo info = new TripRequest.ParticipantInfo();
+            info.setName(email);
+            info.setEmail(email);
+            participants.add(info);
+        }
+        request.setParticipants(participants);
+        return tripService.createTrip(memberId, request);
+    }
+
+    public static List<Long> participantIds(TripResponse trip) {
+        return trip.getParticipants().stream().map(ParticipantResponse::getId).toList();
+    }
+
+    /**
+     * 임의 지출 요청 (결제자 1~2명, 분배 대상 1명 이상 - 합계는 총액과 일치)
+     */
+    public static ExpenseRequest randomExpense(Random random, List<Long> participantIds, int day) {
+        int total = 1_000 + random.nextInt(200_000);
+
+        List<Long> shuffled = new ArrayList<>(participantIds);
+        Collections.shuffle(shuffled, random);
+
+        Map<Long, Integer> payments = new LinkedHashMap<>();
+        if (shuffled.size() > 1 && random.nextBoolean()) {
+            int first = random.nextInt(total);
+            payments.put(shuffled.get(0), first);
+            payments.put(shuffled.get(1), total - first);
+        } else {
+            payments.put(shuffled.get(0), total);
+        }
+
+        Collections.shuffle(shuffled, random);
+        int shareCount = 1 + random.nextInt(shuffled.size());
+        Map<Long, Integer> shares = new LinkedHashMap<>();
+        int each = total / shareCount;
+        for (int i = 0; i < shareCount; i++) {
+            shares.put(shuffled.get(i), i == 0 ? total - each * (shareCount - 1) : each);
+        }
+
+        String[] categories = {"FOOD", "ACCOMMODATION", "TRANSPORTATION", "OTHER"};
+        return expense("지출", LocalDateTime.of(2025, 1, 1 + day % 10, 12, 0),
+                categories[random.nextInt(categories.length)], total, payments, shares);
+    }
+
+    public static ExpenseRequest expense(String title, LocalDateTime occurredAt, String category, int total,
+                                         Map<Long, Integer> payments, Map<Long, Integer> shares) {
+        ExpenseRequest request = new ExpenseRequest();
+        request.setTitle(title);
+        request.setOccurredAt(occurredAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        request.setTotalAmount(total);
+        request.setCategory(category);
+
+        List<ExpenseRequest.PaymentItem> paymentItems = new ArrayList<>();
+        payments.forEach((participantId, amount) -> {
+            ExpenseRequest.PaymentItem item = new ExpenseRequest.PaymentItem();
+            item.setParticipantId(participantId);
+            item.setAmount(amount);
+            paymentItems.add(item);
+        });
+        List<ExpenseRequest.ShareItem> shareItems = new ArrayList<>();
+        shares.forEach((participantId, amount) -> {
+            ExpenseRequest.ShareItem item = new ExpenseRequest.ShareItem();
+            item.setParticipantId(participantId);
+            item.setAmount(amount);
+            shareItems.add(item);
+        });
+        request.setPayments(paymentItems);
+        request.setShares(shareItems);
+        return request;
+    }
+}